@@ -0,0 +1,141 @@
+package com.example.backend.cache;
+
+import com.example.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아직 만료되지 않았지만 더 이상 받아들이면 안 되는 Access Token을 가려내는 인메모리 폐기 목록
+ * - JwtTokenFilter가 DB 조회 없이 클레임만으로 인증하므로, 탈퇴/로그아웃한 사용자의 남은 Access Token은 여기서 막습니다.
+ * - 로그아웃은 해당 기기의 로그인 세션(sid 클레임)만, 탈퇴는 사용자의 모든 토큰을 거부합니다. 토큰 단위로 기록하지 않으므로 세션/사용자당 항목 하나면 충분합니다.
+ * - 기록 이전에 발급된 Access Token은 Access Token 유효 기간이 지나면 모두 만료되므로, 항목도 그때 제거합니다.
+ * - 서버 메모리에만 있으므로 재시작하면 비워집니다. (남은 토큰은 길어야 Access Token 유효 기간 안에 만료)
+ */
+@Component
+public class AccessTokenRevocationRegistry {
+
+    // 탈퇴처럼 발급 시각과 상관없이 모든 토큰을 거부할 때 사용하는 기준 시각
+    private static final long REVOKE_ALL = Long.MAX_VALUE;
+
+    // 사용자 ID → 폐기 기록
+    private final ConcurrentHashMap<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    // 로그아웃한 세션 ID(sid) → 기록 만료 시각 (밀리초)
+    private final ConcurrentHashMap<String, Long> revokedSessions = new ConcurrentHashMap<>();
+
+    // Access Token 유효 기간 (밀리초)
+    private final long accessTokenValidityMillis;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public AccessTokenRevocationRegistry(@Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds) {
+        this.accessTokenValidityMillis = accessTokenValidityInSeconds * 1000;
+    }
+
+    /**
+     * 한 로그인 세션(기기)에서 발급된 Access Token을 모두 거부합니다. (로그아웃, Refresh Token 재사용 감지)
+     * 같은 사용자의 다른 기기 세션은 영향을 받지 않습니다.
+     * @param sessionId 세션 ID (Access Token의 sid 클레임)
+     */
+    public void revokeSession(String sessionId) {
+        revokedSessions.put(sessionId, System.currentTimeMillis() + accessTokenValidityMillis);
+    }
+
+    /**
+     * 발급 시각과 상관없이 사용자의 Access Token을 모두 거부합니다. (회원 탈퇴)
+     * @param userId 사용자 ID
+     */
+    public void revokeAll(Long userId) {
+        long now = System.currentTimeMillis();
+        revocations.put(userId, new Revocation(REVOKE_ALL, now + accessTokenValidityMillis));
+    }
+
+    /**
+     * 검증된 Access Token이 폐기되었는지 확인합니다.
+     * @param userId 토큰의 사용자 ID (sub)
+     * @param claims 토큰의 클레임
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(Long userId, Claims claims) {
+        if (isSessionRevoked(claims.get(JwtUtil.SESSION_ID_CLAIM, String.class))) {
+            rejectedCount.incrementAndGet();
+            return true;
+        }
+
+        Revocation revocation = revocations.get(userId);
+        if (revocation == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= revocation.getExpiresAtMillis()) {
+            revocations.remove(userId, revocation);
+            return false;
+        }
+
+        // 발급 시각이 없는 토큰은 언제 발급되었는지 알 수 없으므로 거부합니다.
+        Date issuedAt = claims.getIssuedAt();
+        boolean revoked = issuedAt == null || issuedAt.getTime() / 1000 < revocation.getCutoffSeconds();
+        if (revoked) {
+            rejectedCount.incrementAndGet();
+        }
+        return revoked;
+    }
+
+    private boolean isSessionRevoked(String sessionId) {
+        if (sessionId == null) {
+            return false;
+        }
+        Long expiresAtMillis = revokedSessions.get(sessionId);
+        if (expiresAtMillis == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= expiresAtMillis) {
+            revokedSessions.remove(sessionId, expiresAtMillis);
+            return false;
+        }
+        return true;
+    }
+
+    // 만료된 폐기 기록을 주기적으로 제거합니다.
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        revocations.values().removeIf(revocation -> now >= revocation.getExpiresAtMillis());
+        revokedSessions.values().removeIf(expiresAtMillis -> now >= expiresAtMillis);
+    }
+
+    /**
+     * 폐기 목록 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 현재 항목 수와 거부한 요청 수
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("entryCount", (long) revocations.size());
+        stats.put("sessionEntryCount", (long) revokedSessions.size());
+        stats.put("rejectedCount", rejectedCount.get());
+        return stats;
+    }
+
+    /**
+     * 사용자 한 명의 폐기 기록
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Revocation {
+
+        // 이 시각(초) 이전에 발급된 토큰을 거부합니다.
+        private long cutoffSeconds;
+
+        // 이 시각 이후에는 거부할 토큰이 모두 만료되므로 기록을 제거합니다.
+        private long expiresAtMillis;
+    }
+}
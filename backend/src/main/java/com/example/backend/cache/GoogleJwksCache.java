@@ -0,0 +1,202 @@
+package com.example.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Google id_token 서명 검증용 공개 키(JWKS) 캐시
+ * - 키 목록을 메모리에 두고 kid로 찾으므로, 로그인마다 키를 다시 받지 않습니다.
+ * - 주기적으로 키 목록을 새로 받고, 모르는 kid가 들어오면(Google 키 교체 직후) 즉시 한 번 더 받습니다.
+ *   임의의 kid로 갱신을 반복 유도하지 못하도록, 마지막 갱신 후 min-refresh-interval-ms 안에는 다시 받지 않습니다.
+ * - 동시에 여러 요청이 갱신을 필요로 해도 JWKS 호출은 한 번만 나갑니다. (진행 중인 호출을 공유)
+ */
+@Slf4j
+@Component
+public class GoogleJwksCache {
+
+    private final WebClient webClient;
+    private final String jwksUri;
+
+    // 모르는 kid로 인한 갱신 사이의 최소 간격 (밀리초)
+    private final long minRefreshIntervalMillis;
+
+    // 최대 재시도 횟수와 첫 재시도 간격
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    // kid → 공개 키 (갱신 시 통째로 교체)
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshMillis = 0;
+
+    // 진행 중인 JWKS 호출 (없으면 null)
+    private final AtomicReference<Mono<Map<String, PublicKey>>> inFlightRefresh = new AtomicReference<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    public GoogleJwksCache(
+            @Qualifier("googleWebClient") WebClient webClient,
+            @Value("${app.oauth.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+            @Value("${app.oauth.google.jwks-min-refresh-interval-ms:60000}") long minRefreshIntervalMillis,
+            @Value("${app.oauth.google.max-retries:2}") int maxRetries,
+            @Value("${app.oauth.google.retry-backoff-ms:100}") long retryBackoffMillis
+    ) {
+        this.webClient = webClient;
+        this.jwksUri = jwksUri;
+        this.minRefreshIntervalMillis = Math.max(minRefreshIntervalMillis, 0);
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.retryBackoff = Duration.ofMillis(Math.max(retryBackoffMillis, 1));
+    }
+
+    /**
+     * kid에 해당하는 공개 키를 찾습니다. 없으면 키 목록을 한 번 새로 받아 다시 찾습니다.
+     * @param kid id_token 헤더의 kid
+     * @return 공개 키 (갱신 후에도 없으면 empty)
+     */
+    public Mono<PublicKey> getKey(String kid) {
+
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            hitCount.incrementAndGet();
+            return Mono.just(key);
+        }
+        missCount.incrementAndGet();
+
+        // 최근에 받은 키 목록에도 없던 kid면 다시 받지 않습니다.
+        if (!keys.isEmpty() && System.currentTimeMillis() - lastRefreshMillis < minRefreshIntervalMillis) {
+            return Mono.empty();
+        }
+        return refresh().mapNotNull(refreshed -> refreshed.get(kid));
+    }
+
+    /**
+     * 키 목록을 새로 받습니다. 이미 진행 중인 호출이 있으면 그 결과를 함께 기다립니다.
+     * @return 새 키 목록
+     */
+    public Mono<Map<String, PublicKey>> refresh() {
+        while (true) {
+            Mono<Map<String, PublicKey>> current = inFlightRefresh.get();
+            if (current != null) {
+                return current;
+            }
+
+            // doFinally에서 자기 자신만 지우도록 만들어진 Mono를 담아 둡니다. (구독은 반환 이후에 일어나므로 그 전에 채워짐)
+            AtomicReference<Mono<Map<String, PublicKey>>> self = new AtomicReference<>();
+            Mono<Map<String, PublicKey>> created = fetchKeys()
+                    .doOnNext(fetched -> {
+                        keys = fetched;
+                        lastRefreshMillis = System.currentTimeMillis();
+                        refreshCount.incrementAndGet();
+                    })
+                    .doOnError(e -> refreshFailureCount.incrementAndGet())
+                    // 호출이 끝나면(성공/실패) 다음 갱신은 새로 호출합니다. 그 사이 등록된 다른 호출은 지우지 않습니다.
+                    .doFinally(signal -> inFlightRefresh.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(created);
+
+            if (inFlightRefresh.compareAndSet(null, created)) {
+                return created;
+            }
+        }
+    }
+
+    // Google 키 교체에 대비해 주기적으로 새로 받습니다. (시작 직후에도 한 번 받아 첫 로그인이 기다리지 않게 함)
+    // 구독만 하고 바로 반환하므로 공용 스케줄러 스레드가 JWKS 응답을 기다리지 않습니다. (응답 시간은 WebClient 타임아웃으로 제한)
+    @Scheduled(fixedDelayString = "${app.oauth.google.jwks-refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                refreshed -> {},
+                e -> log.warn("JWKS 갱신 실패", e));
+    }
+
+    /**
+     * 키 캐시 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 적중/미스/갱신 횟수와 현재 키 수
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hitCount", hitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("refreshCount", refreshCount.get());
+        stats.put("refreshFailureCount", refreshFailureCount.get());
+        stats.put("keyCount", (long) keys.size());
+        stats.put("lastRefreshMillis", lastRefreshMillis);
+        return stats;
+    }
+
+    private Mono<Map<String, PublicKey>> fetchKeys() {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                // 조회(GET)이므로 전송 오류와 일시적인 서버 오류에 지터를 준 간격으로 재시도합니다.
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                        .jitter(0.5)
+                        .filter(GoogleJwksCache::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .map(GoogleJwksCache::toPublicKeys);
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientRequestException) {
+            return true;
+        }
+        return e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is5xxServerError();
+    }
+
+    // JWKS 응답({"keys": [{"kid", "kty", "n", "e", ...}]})에서 서명용 RSA 키만 꺼냅니다.
+    private static Map<String, PublicKey> toPublicKeys(Map<String, Object> jwks) {
+
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        if (!(jwks.get("keys") instanceof List<?> jwkList)) {
+            throw new IllegalStateException("JWKS 응답에 keys가 없습니다.");
+        }
+
+        for (Object item : jwkList) {
+            if (!(item instanceof Map<?, ?> jwk)) {
+                continue;
+            }
+            Object kid = jwk.get("kid");
+            Object use = jwk.get("use");
+            if (kid == null || !"RSA".equals(jwk.get("kty")) || (use != null && !"sig".equals(use))) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("n")));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("e")));
+                publicKeys.put(kid.toString(),
+                        KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            } catch (GeneralSecurityException | RuntimeException e) {
+                // 형식이 잘못된 키 하나 때문에 나머지 키를 버리지 않습니다.
+                log.warn("키(kid: {}) 변환 실패", kid, e);
+            }
+        }
+        return Map.copyOf(publicKeys);
+    }
+}
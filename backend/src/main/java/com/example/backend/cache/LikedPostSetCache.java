@@ -0,0 +1,195 @@
+package com.example.backend.cache;
+
+import com.example.backend.event.PostLikeToggledEvent;
+import com.example.backend.repository.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 사용자별 "좋아요를 누른 게시글 ID" 캐시 (좋아요 여부 판단용)
+ * - 사용자마다 정렬된 long[] 하나만 보관하고 이진 탐색으로 조회합니다. (Set<Long> 대비 ID당 8바이트)
+ * - 처음 조회할 때 DB에서 적재하고, 좋아요/취소가 커밋된 뒤(PostLikeToggledEvent) 해당 사용자 항목을 지워 다음 조회에서 다시 적재합니다.
+ * - 전체 용량(max-weight-bytes)을 넘으면 가장 오래 사용되지 않은 사용자부터 제거합니다.
+ * - 좋아요가 너무 많은 사용자(max-ids-per-user 초과)는 ID 목록 대신 "너무 큼" 표시만 보관하고 DB에서 직접 확인합니다.
+ */
+@Component
+public class LikedPostSetCache {
+
+    // 항목 하나당 고정 오버헤드 추정치 (맵 엔트리, Long 키, 배열 헤더)
+    private static final long ENTRY_OVERHEAD_BYTES = 80;
+
+    // 사용자 ID별 무효화 세대를 나누어 관리하는 구간 수 (한 사용자의 좋아요가 다른 사용자의 적재를 막지 않도록)
+    private static final int GENERATION_STRIPES = 1024;
+
+    // 좋아요가 max-ids-per-user를 넘는 사용자를 나타내는 표시 (참조 비교)
+    private static final long[] TOO_LARGE = new long[0];
+
+    private final LikeRepository likeRepository;
+
+    // 캐시 전체 용량 상한 (추정 힙 사용량 기준)
+    private final long maxWeightBytes;
+
+    // 사용자 한 명당 보관할 최대 게시글 ID 수
+    private final int maxIdsPerUser;
+
+    // 접근 순서(access-order) LinkedHashMap으로 LRU를 구현합니다. this로 동기화
+    // 값(long[])은 넣거나 지우기만 하고 수정하지 않으므로 락 밖에서 읽어도 안전합니다.
+    private final LinkedHashMap<Long, long[]> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private long currentWeightBytes = 0;
+
+    // 무효화 세대: DB 적재 도중 해당 사용자의 좋아요가 바뀌면 적재 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong tooLargeCount = new AtomicLong();
+
+    public LikedPostSetCache(
+            LikeRepository likeRepository,
+            @Value("${app.like.liked-set-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${app.like.liked-set-cache.max-ids-per-user:10000}") int maxIdsPerUser
+    ) {
+        this.likeRepository = likeRepository;
+        this.maxWeightBytes = Math.max(maxWeightBytes, 0);
+        this.maxIdsPerUser = Math.max(maxIdsPerUser, 0);
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인합니다.
+     * 적재(DB 조회)는 호출한 쪽의 트랜잭션에서 실행되므로, 이미 다른 조회로 스냅샷이 잡힌 트랜잭션 안에서 호출하면 안 됩니다.
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 좋아요 여부
+     */
+    public boolean isLiked(Long userId, Long postId) {
+        long[] postIds = getOrLoad(userId);
+        if (postIds == TOO_LARGE) {
+            return likeRepository.existsByPost_IdAndUser_Id(postId, userId);
+        }
+        return Arrays.binarySearch(postIds, postId) >= 0;
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요를 누른 게시글 ID를 반환합니다.
+     * @param userId 사용자 ID
+     * @param postIds 확인할 게시글 ID 목록
+     * @return 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> filterLiked(Long userId, Collection<Long> postIds) {
+        long[] likedPostIds = getOrLoad(userId);
+        if (likedPostIds == TOO_LARGE) {
+            return new HashSet<>(likeRepository.findLikedPostIds(userId, postIds));
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (Long postId : postIds) {
+            if (Arrays.binarySearch(likedPostIds, postId) >= 0) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    // 좋아요/취소가 커밋되면 해당 사용자 항목을 지우고 세대를 올립니다. (다음 조회에서 DB에서 다시 적재)
+    // 서로 다른 트랜잭션의 커밋 이후 리스너는 실행 순서가 보장되지 않으므로, 배열을 직접 고치지 않습니다.
+    @TransactionalEventListener
+    public synchronized void onLikeToggled(PostLikeToggledEvent event) {
+        Long userId = event.getUserId();
+        generations.incrementAndGet(stripeOf(userId));
+
+        long[] removed = entries.remove(userId);
+        if (removed != null) {
+            currentWeightBytes -= weightOf(removed);
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 적중/미적중/제거 횟수와 추정 힙 사용량
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hitCount", hitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("evictionCount", evictionCount.get());
+        stats.put("tooLargeCount", tooLargeCount.get());
+        stats.put("userCount", (long) entries.size());
+        stats.put("weightBytes", currentWeightBytes);
+        stats.put("maxWeightBytes", maxWeightBytes);
+        return stats;
+    }
+
+    private long[] getOrLoad(Long userId) {
+
+        synchronized (this) {
+            long[] cached = entries.get(userId);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+        }
+        missCount.incrementAndGet();
+
+        // 1. DB 조회 전에 세대를 받아 둡니다.
+        int stripe = stripeOf(userId);
+        long loadedGeneration = generations.get(stripe);
+
+        // 2. 한도보다 하나 더 조회해서 한도를 넘는 사용자를 가려냅니다.
+        List<Long> postIds = likeRepository.findPostIdsByUserId(userId, PageRequest.of(0, maxIdsPerUser + 1));
+
+        long[] loaded;
+        if (postIds.size() > maxIdsPerUser) {
+            loaded = TOO_LARGE;
+            tooLargeCount.incrementAndGet();
+        } else {
+            loaded = postIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        // 3. 조회 도중 같은 구간의 사용자 좋아요가 바뀌었으면 캐시에 넣지 않습니다. (이번 응답에는 조회 결과를 그대로 사용)
+        synchronized (this) {
+            if (generations.get(stripe) == loadedGeneration) {
+                long[] previous = entries.put(userId, loaded);
+                if (previous != null) {
+                    currentWeightBytes -= weightOf(previous);
+                }
+                currentWeightBytes += weightOf(loaded);
+
+                evictIfNeeded();
+            }
+        }
+        return loaded;
+    }
+
+    // this로 동기화된 상태에서 호출해야 합니다.
+    private void evictIfNeeded() {
+        Iterator<long[]> iterator = entries.values().iterator();
+        while (currentWeightBytes > maxWeightBytes && iterator.hasNext()) {
+            long[] eldest = iterator.next();
+            iterator.remove();
+            currentWeightBytes -= weightOf(eldest);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private long weightOf(long[] postIds) {
+        return ENTRY_OVERHEAD_BYTES + postIds.length * 8L;
+    }
+
+    private int stripeOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.backend.cache;
+
+import com.example.backend.dto.PostSummaryDTO;
+import com.example.backend.entity.Post;
+import com.example.backend.event.PostDeletedEvent;
+import com.example.backend.event.PostLikeChangedEvent;
+import com.example.backend.event.PostUpdatedEvent;
+import com.example.backend.event.PostsAnonymizedEvent;
+import com.example.backend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메인 페이지 인기 게시글(/posts/popular)을 위한 인메모리 Top-N 리더보드
+ * - 시작 시 DB에서 적재(reload)하고, 좋아요/수정/삭제 커밋 이벤트로 증분 갱신합니다. (작성자 익명화는 다시 적재)
+ * - 조회는 미리 정렬해 둔 스냅샷을 반환하므로 MySQL을 거치지 않습니다.
+ * - DB 조회는 락 밖에서 하므로, 조회 도중 수정/삭제가 반영되었다면(version 변경) 조회 결과를 버립니다.
+ * - 증분 갱신으로 생길 수 있는 오차는 주기적인 전체 재동기화로 바로잡습니다.
+ */
+@Component
+public class PopularPostLeaderboard {
+
+    // 좋아요 수 내림차순 → 작성 시각 내림차순 → ID 내림차순 (findTopNByLikeCount와 같은 순서)
+    private static final Comparator<PostSummaryDTO> RANKING = Comparator
+            .comparingInt(PostSummaryDTO::getLikeCount).reversed()
+            .thenComparing(PostSummaryDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PostSummaryDTO::getId, Comparator.reverseOrder());
+
+    // 재동기화 중 수정/삭제와 겹쳤을 때 다시 읽는 최대 횟수
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    private final PostRepository postRepository;
+
+    // 화면에 노출할 인기 게시글 수
+    private final int size;
+
+    // 노출 개수보다 여유 있게 보관하는 후보 수 (좋아요 취소/삭제로 순위가 밀려도 Top-N을 유지하기 위함)
+    private final int capacity;
+
+    // 후보 게시글 (postId → DTO), this로 동기화
+    private final Map<Long, PostSummaryDTO> candidates = new HashMap<>();
+
+    // 게시글 수정/삭제가 반영될 때마다 증가 (락 밖에서 읽은 DB 결과가 그 사이 낡았는지 판단), this로 동기화
+    private long version = 0;
+
+    // 조회용 정렬 스냅샷 (쓰기 시에만 교체되므로 읽기는 락 없이 수행)
+    private volatile List<PostSummaryDTO> snapshot = List.of();
+
+    public PopularPostLeaderboard(
+            PostRepository postRepository,
+            @Value("${app.popular.size:4}") int size,
+            @Value("${app.popular.buffer-size:16}") int bufferSize
+    ) {
+        this.postRepository = postRepository;
+        this.size = Math.max(size, 1);
+        this.capacity = this.size + Math.max(bufferSize, 0);
+    }
+
+    /**
+     * 인기 게시글 Top-N을 반환합니다. (DB 조회 없음)
+     * @return 좋아요 순으로 정렬된 게시글 목록
+     */
+    public List<PostSummaryDTO> getTopPosts() {
+        return snapshot;
+    }
+
+    /**
+     * DB에서 후보 게시글 전체를 다시 읽어 리더보드를 재구성합니다.
+     * 애플리케이션 시작 시(DataInitializer)와 주기적인 재동기화에서 호출됩니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.popular.resync-interval-ms:60000}",
+            initialDelayString = "${app.popular.resync-interval-ms:60000}"
+    )
+    public void reload() {
+
+        // 조회 도중 수정/삭제가 있었다면 다시 읽습니다. (계속 겹치면 다음 재동기화에 맡김)
+        for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS; attempt++) {
+            long readVersion = currentVersion();
+            List<PostSummaryDTO> topPosts = postRepository.findTopNByLikeCount(PageRequest.of(0, capacity));
+
+            synchronized (this) {
+                if (version != readVersion) {
+                    continue;
+                }
+                candidates.clear();
+                topPosts.forEach(post -> candidates.put(post.getId(), post));
+                rebuildSnapshot();
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(PostLikeChangedEvent event) {
+
+        long readVersion;
+        synchronized (this) {
+            PostSummaryDTO current = candidates.get(event.getPostId());
+
+            if (current != null) {
+                candidates.put(current.getId(), withLikeCount(current, event.getLikeCount()));
+                rebuildSnapshot();
+                return;
+            }
+
+            // 후보에 없는 게시글은 최하위 후보보다 좋아요가 많아졌을 때만 새로 진입합니다.
+            if (candidates.size() >= capacity && event.getLikeCount() <= lowestLikeCount()) {
+                return;
+            }
+            readVersion = version;
+        }
+
+        // 새로 진입하는 게시글만 한 건 조회합니다. (락 밖에서 DB 조회)
+        postRepository.findSummaryById(event.getPostId()).ifPresent(post -> {
+            synchronized (this) {
+                // 조회 도중 수정/삭제가 반영되었다면 삭제된 게시글이나 옛 제목이 다시 들어갈 수 있으므로 넣지 않습니다.
+                // (다음 좋아요 이벤트나 주기적인 재동기화에서 다시 진입)
+                if (version != readVersion) {
+                    return;
+                }
+                candidates.put(post.getId(), withLikeCount(post, event.getLikeCount()));
+                trimToCapacity();
+                rebuildSnapshot();
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+
+        synchronized (this) {
+            version++;
+            PostSummaryDTO current = candidates.get(event.getPostId());
+            if (current != null) {
+                candidates.put(current.getId(), withContent(current, event.getTitle(), Post.toExcerpt(event.getContent())));
+                rebuildSnapshot();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+
+        synchronized (this) {
+            version++;
+            if (candidates.remove(event.getPostId()) != null) {
+                rebuildSnapshot();
+            }
+        }
+    }
+
+    // 익명화는 게시글 ID를 알 수 없으므로, 원래 작성자의 게시글이 후보에 있으면 DB에서 다시 읽습니다.
+    // (후보에서 빼기만 하면 여전히 인기 게시글인 글이 다음 재동기화까지 목록에서 빠지므로 다시 적재합니다)
+    @TransactionalEventListener
+    public void onPostsAnonymized(PostsAnonymizedEvent event) {
+
+        synchronized (this) {
+            version++;
+            boolean affected = candidates.values().stream()
+                    .anyMatch(post -> event.getOriginalUserId().equals(post.getAuthorId()));
+            if (!affected) {
+                return;
+            }
+        }
+        reload();
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    // === 내부 헬퍼 (모두 this 동기화 상태에서 호출) ===
+
+    private int lowestLikeCount() {
+        return candidates.values().stream()
+                .mapToInt(PostSummaryDTO::getLikeCount)
+                .min()
+                .orElse(0);
+    }
+
+    private void trimToCapacity() {
+        if (candidates.size() <= capacity) {
+            return;
+        }
+        List<PostSummaryDTO> ranked = new ArrayList<>(candidates.values());
+        ranked.sort(RANKING);
+        ranked.subList(capacity, ranked.size()).forEach(post -> candidates.remove(post.getId()));
+    }
+
+    private void rebuildSnapshot() {
+        List<PostSummaryDTO> ranked = new ArrayList<>(candidates.values());
+        ranked.sort(RANKING);
+        snapshot = List.copyOf(ranked.subList(0, Math.min(size, ranked.size())));
+    }
+
+    private PostSummaryDTO withLikeCount(PostSummaryDTO post, int likeCount) {
+        return new PostSummaryDTO(
+                post.getId(), post.getTitle(), post.getExcerpt(),
+                post.getViewCount(), likeCount, post.getCommentCount(),
+                post.getAuthorId(), post.getAuthorName(), post.getCreatedAt()
+        );
+    }
+
+    private PostSummaryDTO withContent(PostSummaryDTO post, String title, String excerpt) {
+        return new PostSummaryDTO(
+                post.getId(), title, excerpt,
+                post.getViewCount(), post.getLikeCount(), post.getCommentCount(),
+                post.getAuthorId(), post.getAuthorName(), post.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.backend.cache;
+
+import com.example.backend.entity.Post;
+import com.example.backend.event.PostDeletedEvent;
+import com.example.backend.event.PostUpdatedEvent;
+import com.example.backend.event.PostsAnonymizedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 상세 조회용 본문 캐시
+ * - 작성 후 거의 바뀌지 않는 부분(제목, 내용, 작성자, 작성 시각)만 보관하고,
+ *   조회수/좋아요 수/댓글 수는 조회 시점에 DB 값을 덧씌웁니다.
+ * - 본문(TEXT) 크기를 기준으로 전체 용량(max-weight-bytes)을 제한하며, 초과 시 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * - 수정/삭제/익명화가 커밋된 뒤 해당 항목을 무효화합니다.
+ */
+@Component
+public class PostDetailCache {
+
+    // 항목 하나당 고정 오버헤드 추정치 (객체 헤더, 맵 엔트리, 필드 등)
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    // 캐시 전체 용량 상한 (본문 문자열 바이트 기준)
+    private final long maxWeightBytes;
+
+    // 접근 순서(access-order) LinkedHashMap으로 LRU를 구현합니다. this로 동기화
+    private final LinkedHashMap<Long, CachedPostBody> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentWeightBytes = 0;
+
+    // 무효화 세대: DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public PostDetailCache(@Value("${app.post-cache.max-weight-bytes:33554432}") long maxWeightBytes) {
+        this.maxWeightBytes = Math.max(maxWeightBytes, 0);
+    }
+
+    /**
+     * 캐시된 게시글 본문을 반환합니다.
+     * @param postId 게시글 ID
+     * @return 캐시된 본문 (없으면 null)
+     */
+    public synchronized CachedPostBody get(Long postId) {
+        CachedPostBody body = entries.get(postId);
+        if (body == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return body;
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 현재 무효화 세대를 가져옵니다.
+     * 조회 후 put에 그대로 전달하면, 그 사이 무효화가 있었을 때 오래된 본문이 캐시에 들어가지 않습니다.
+     * @return 현재 무효화 세대
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 게시글 엔티티의 불변 부분을 캐시에 저장합니다.
+     * @param post 작성자가 로딩된 게시글 엔티티
+     * @param loadedGeneration DB 조회 전에 받아 둔 무효화 세대
+     */
+    public void put(Post post, long loadedGeneration) {
+
+        CachedPostBody body = new CachedPostBody(
+                post.getId(), post.getTitle(), post.getContent(),
+                post.getAuthor().getId(), post.getAuthor().getName(), post.getCreatedAt()
+        );
+        long weight = weightOf(body);
+
+        // 용량의 1/8을 넘는 거대한 본문은 다른 항목을 모두 밀어내지 않도록 캐시하지 않습니다.
+        if (weight > maxWeightBytes / 8) {
+            return;
+        }
+
+        synchronized (this) {
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+
+            CachedPostBody previous = entries.put(body.getId(), body);
+            if (previous != null) {
+                currentWeightBytes -= weightOf(previous);
+            }
+            currentWeightBytes += weight;
+
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * 특정 게시글의 캐시 항목을 제거합니다.
+     * @param postId 게시글 ID
+     */
+    public synchronized void invalidate(Long postId) {
+        generation.incrementAndGet();
+
+        CachedPostBody removed = entries.remove(postId);
+        if (removed != null) {
+            currentWeightBytes -= weightOf(removed);
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    // 익명화는 게시글 ID를 알 수 없으므로, 원래 작성자의 게시글을 모두 제거합니다.
+    @TransactionalEventListener
+    public synchronized void onPostsAnonymized(PostsAnonymizedEvent event) {
+        generation.incrementAndGet();
+
+        Iterator<CachedPostBody> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedPostBody body = iterator.next();
+            if (event.getOriginalUserId().equals(body.getAuthorId())) {
+                iterator.remove();
+                currentWeightBytes -= weightOf(body);
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 적중/미적중/제거 횟수와 현재 크기
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hitCount", hitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("evictionCount", evictionCount.get());
+        stats.put("invalidationCount", invalidationCount.get());
+        stats.put("entryCount", (long) entries.size());
+        stats.put("weightBytes", currentWeightBytes);
+        stats.put("maxWeightBytes", maxWeightBytes);
+        return stats;
+    }
+
+    // this로 동기화된 상태에서 호출해야 합니다.
+    private void evictIfNeeded() {
+        Iterator<CachedPostBody> iterator = entries.values().iterator();
+        while (currentWeightBytes > maxWeightBytes && iterator.hasNext()) {
+            CachedPostBody eldest = iterator.next();
+            iterator.remove();
+            currentWeightBytes -= weightOf(eldest);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    // Java 문자열은 문자당 최대 2바이트를 차지하므로 보수적으로 2배로 계산합니다.
+    private long weightOf(CachedPostBody body) {
+        long chars = length(body.getTitle()) + length(body.getContent()) + length(body.getAuthorName());
+        return ENTRY_OVERHEAD_BYTES + chars * 2;
+    }
+
+    private long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 캐시에 저장되는 게시글의 불변 부분
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPostBody {
+
+        private Long id;
+        private String title;
+        private String content;
+        private Long authorId;
+        private String authorName;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.backend.cache;
+
+import com.example.backend.event.TrendingActivityEvent;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.service.TrendingScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요/댓글의 트렌딩 점수 가중치 쓰기 지연(write-behind) 버퍼
+ * - 좋아요/댓글 트랜잭션 안에서 posts 행과 trending_epoch 행을 차례로 잠그지 않도록, 커밋 이후 가중치를 메모리에 모아 둡니다.
+ *   (게시글 행 → 기준 시각 행 순서로 잠그면 rebase의 기준 시각 행 → 게시글 행 순서와 엇갈려 교착 상태가 생길 수 있음)
+ * - 일정 주기마다 한 번의 UPDATE ... CASE 문으로 반영하며, 이 문장은 기준 시각 행을 먼저 읽고 게시글 행을 갱신합니다.
+ * - 가중치는 구간(window) 시작 시각에 대한 상대값으로 모으고, 반영할 때 각 게시글의 기준 시각으로 환산합니다.
+ * - 종료 시(@PreDestroy) 남은 가중치를 모두 반영합니다.
+ */
+@Slf4j
+@Component
+public class TrendingScoreBuffer {
+
+    // 한 번의 UPDATE에 담을 수 있는 게시글 수 상한 (게시글당 바인딩 파라미터 3개, MySQL 상한 65535)
+    private static final int MAX_KEYS_PER_STATEMENT = 20_000;
+
+    private final PostRepository postRepository;
+    private final TrendingScoreService trendingScoreService;
+
+    // 현재 모으고 있는 구간 (교체는 쓰기 락, 추가는 읽기 락)
+    private final ReentrantReadWriteLock windowLock = new ReentrantReadWriteLock();
+    private Window window = new Window(LocalDateTime.now());
+
+    // 주기 반영과 종료 시 반영이 동시에 실행되지 않도록 보호
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public TrendingScoreBuffer(PostRepository postRepository, TrendingScoreService trendingScoreService) {
+        this.postRepository = postRepository;
+        this.trendingScoreService = trendingScoreService;
+    }
+
+    @TransactionalEventListener
+    public void onTrendingActivity(TrendingActivityEvent event) {
+        add(event.getPostId(), event.getWeight(), event.getOccurredAt());
+    }
+
+    /**
+     * 가중치를 버퍼에 더합니다. (DB 접근 없음)
+     * @param postId 게시글 ID
+     * @param weight 가중치 (취소면 음수)
+     * @param occurredAt 활동 시각
+     */
+    public void add(Long postId, double weight, LocalDateTime occurredAt) {
+        windowLock.readLock().lock();
+        try {
+            window.add(postId, weight, occurredAt, trendingScoreService.getTimeScaleSeconds());
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모아 둔 가중치를 한 번의 UPDATE로 DB에 반영합니다.
+     * 실패하면 가중치를 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.trending.flush-interval-ms:1000}")
+    public void flush() {
+
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // flushLock을 잡은 상태에서 호출해야 합니다.
+    private void writePending() {
+
+        Window drained;
+        windowLock.writeLock().lock();
+        try {
+            if (window.getPending().isEmpty()) {
+                return;
+            }
+            drained = window;
+            window = new Window(LocalDateTime.now());
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+
+        Map<Long, Double> chunk = new HashMap<>();
+        for (Map.Entry<Long, Double> entry : drained.getPending().entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() >= MAX_KEYS_PER_STATEMENT) {
+                writeChunk(chunk, drained.getAnchor());
+                chunk = new HashMap<>();
+            }
+        }
+        writeChunk(chunk, drained.getAnchor());
+    }
+
+    private void writeChunk(Map<Long, Double> chunk, LocalDateTime anchor) {
+        try {
+            postRepository.bulkAddTrendingScores(chunk, anchor, trendingScoreService.getTimeScaleSeconds());
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 점수 반영 실패, 다음 주기에 재시도", e);
+            // 구간 시작 시각 기준 값이므로, 그 시각의 활동으로 되돌려 넣으면 새 구간 기준으로 환산됩니다.
+            chunk.forEach((postId, weight) -> add(postId, weight, anchor));
+        }
+    }
+
+    /**
+     * 가중치를 모으는 구간 하나 (anchor 시각에 대한 상대값으로 보관)
+     */
+    @Getter
+    private static class Window {
+
+        private final LocalDateTime anchor;
+        private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+        Window(LocalDateTime anchor) {
+            this.anchor = anchor;
+        }
+
+        void add(Long postId, double weight, LocalDateTime occurredAt, double timeScaleSeconds) {
+            double elapsedSeconds = Duration.between(anchor, occurredAt).toMillis() / 1000.0;
+            pending.merge(postId, weight * Math.exp(elapsedSeconds / timeScaleSeconds), Double::sum);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backend.cache;
+
+import com.example.backend.util.TokenHashUtil;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증을 마친 Access Token의 클레임 캐시 (JwtTokenFilter에서 사용)
+ * - 같은 토큰이 반복해서 들어오면 서명(HMAC) 검증과 클레임 파싱을 건너뜁니다.
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용하므로 메모리에 토큰이 남지 않습니다.
+ * - 항목은 토큰 자신의 만료 시각(exp)까지만 유효하며, 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 최대 항목 수
+    private final int maxEntries;
+
+    // 접근 순서(access-order) LinkedHashMap으로 LRU를 구현합니다. this로 동기화
+    private final LinkedHashMap<String, VerifiedToken> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${app.jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                boolean evict = size() > VerifiedTokenCache.this.maxEntries;
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * 이미 검증된 토큰이면 클레임을 반환합니다.
+     * @param token Access Token 원문
+     * @return 검증된 클레임 (캐시에 없거나 만료되었으면 null)
+     */
+    public Claims get(String token) {
+        String key = TokenHashUtil.sha256Hex(token);
+
+        synchronized (this) {
+            VerifiedToken verified = entries.get(key);
+            if (verified == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            // 만료된 토큰은 제거하고 다시 검증하게 하여, 만료 예외(ExpiredJwtException)가 그대로 발생하도록 합니다.
+            if (System.currentTimeMillis() >= verified.getExpiresAtMillis()) {
+                entries.remove(key);
+                expiredCount.incrementAndGet();
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return verified.getClaims();
+        }
+    }
+
+    /**
+     * 서명 검증을 통과한 토큰의 클레임을 저장합니다. (exp가 없는 토큰은 저장하지 않음)
+     * @param token Access Token 원문
+     * @param claims 검증된 클레임
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || maxEntries == 0) {
+            return;
+        }
+
+        String key = TokenHashUtil.sha256Hex(token);
+        synchronized (this) {
+            entries.put(key, new VerifiedToken(claims, expiration.getTime()));
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 적중/미적중/만료/제거 횟수와 현재 항목 수
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hitCount", hitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("expiredCount", expiredCount.get());
+        stats.put("evictionCount", evictionCount.get());
+        stats.put("entryCount", (long) entries.size());
+        stats.put("maxEntries", (long) maxEntries);
+        return stats;
+    }
+
+    /**
+     * 검증된 토큰의 클레임과 만료 시각
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class VerifiedToken {
+
+        private Claims claims;
+        private long expiresAtMillis;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.backend.cache;
+
+import com.example.backend.repository.PostRepository;
+import com.example.backend.service.TrendingScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회마다 UPDATE를 실행하는 대신 메모리에 증가분을 모아 두었다가,
+ *   일정 주기마다 한 번의 UPDATE ... CASE 문으로 DB에 반영합니다.
+ * - ConcurrentHashMap.merge는 버킷 단위로 잠그므로(striped) 서로 다른 게시글의 조회는 경합하지 않습니다.
+ * - 버퍼가 가득 차면 스케줄러에 즉시 반영을 요청할 뿐, 요청 스레드에서 DB에 쓰지 않습니다.
+ * - 트렌딩 점수의 조회 가중치도 같은 UPDATE에서 함께 반영합니다.
+ * - 종료 시(@PreDestroy) 남은 증가분을 모두 반영합니다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    // 한 번의 UPDATE에 담을 수 있는 게시글 수 상한 (게시글당 바인딩 파라미터 5개, MySQL 상한 65535)
+    private static final int MAX_KEYS_PER_STATEMENT = 13_000;
+
+    private final PostRepository postRepository;
+    private final TrendingScoreService trendingScoreService;
+    private final TaskScheduler taskScheduler;
+
+    // 버퍼에 쌓을 수 있는 최대 게시글 수 (초과 시 주기를 기다리지 않고 스케줄러에 즉시 반영 요청)
+    private final int maxBufferedKeys;
+
+    // 종료 시 남은 증가분을 DB에 반영할지 여부
+    private final boolean flushOnShutdown;
+
+    // 게시글 ID → 아직 DB에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 주기 반영과 즉시 반영이 동시에 실행되지 않도록 보호
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 즉시 반영 요청이 이미 스케줄러에 올라가 있는지 여부 (요청이 쌓이지 않도록 한 번만 등록)
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public ViewCountBuffer(
+            PostRepository postRepository,
+            TrendingScoreService trendingScoreService,
+            TaskScheduler taskScheduler,
+            @Value("${app.view-count.max-buffered-keys:5000}") int maxBufferedKeys,
+            @Value("${app.view-count.flush-on-shutdown:true}") boolean flushOnShutdown
+    ) {
+        this.postRepository = postRepository;
+        this.trendingScoreService = trendingScoreService;
+        this.taskScheduler = taskScheduler;
+        this.maxBufferedKeys = Math.min(Math.max(maxBufferedKeys, 1), MAX_KEYS_PER_STATEMENT);
+        this.flushOnShutdown = flushOnShutdown;
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. (DB 접근 없음)
+     * @param postId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 해당 게시글의 조회수 증가분 (이번 증가 포함)
+     */
+    public long increment(Long postId) {
+
+        long pendingDelta = pending.merge(postId, 1L, Long::sum);
+
+        if (pending.size() >= maxBufferedKeys) {
+            requestFlush();
+        }
+        return pendingDelta;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+     * @param postId 게시글 ID
+     * @return 반영 대기 중인 증가분 (없으면 0)
+     */
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 버퍼에 쌓인 증가분을 한 번의 UPDATE로 DB에 반영합니다.
+     * 실패하면 증가분을 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:500}")
+    public void flush() {
+
+        if (!flushLock.tryLock()) {
+            // 다른 스레드가 이미 반영 중이면 이번 호출은 건너뜁니다.
+            return;
+        }
+
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 다음 주기를 기다리지 않고 스케줄러 스레드에서 바로 반영하도록 요청합니다. (요청 스레드는 기다리지 않음)
+    private void requestFlush() {
+
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            taskScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        } catch (TaskRejectedException e) {
+            // 종료 중이면 @PreDestroy의 마지막 반영에 맡깁니다.
+            flushRequested.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!flushOnShutdown) {
+            return;
+        }
+
+        log.info("종료 전 남은 조회수 반영 ({}개 게시글)", pending.size());
+
+        // 진행 중인 주기 반영이 있으면 끝날 때까지 기다린 뒤 나머지를 반영합니다.
+        flushLock.lock();
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // flushLock을 잡은 상태에서 호출해야 합니다.
+    private void writePending() {
+
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            // 키 단위로 원자적으로 꺼내므로, 꺼내는 도중 들어온 증가분은 유실되지 않고 다음 주기로 넘어갑니다.
+            pending.computeIfPresent(postId, (id, delta) -> {
+                drained.put(id, delta);
+                return null;
+            });
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 조회수와 함께 트렌딩 점수도 같은 UPDATE로 반영합니다.
+            postRepository.bulkAddViewCounts(drained, trendingScoreService.getViewWeight(), trendingScoreService.getTimeScaleSeconds());
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도", e);
+            drained.forEach((postId, delta) -> pending.merge(postId, delta, Long::sum));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.backend.config;
 
+import com.example.backend.cache.PopularPostLeaderboard;
+import com.example.backend.search.PostSearchIndexer;
+import com.example.backend.service.TrendingScoreService;
 import com.example.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
@@ -11,11 +14,23 @@ import org.springframework.stereotype.Component;
 public class DataInitializer implements ApplicationRunner {
 
     private final UserService userService;
+    private final PopularPostLeaderboard popularPostLeaderboard;
+    private final PostSearchIndexer postSearchIndexer;
+    private final TrendingScoreService trendingScoreService;
 
     // ⭐️ 애플리케이션 시작 후 모든 빈 생성 및 트랜잭션 환경 준비 완료 시 실행됨
     @Override
     public void run(ApplicationArguments args) throws Exception {
         // UserService의 트랜잭션 메서드를 호출
         userService.initializeDummyUser();
+
+        // 트렌딩 점수 기준 시각 행 생성 (없을 때만)
+        trendingScoreService.initializeEpoch();
+
+        // 인기 게시글 리더보드를 DB에서 적재
+        popularPostLeaderboard.reload();
+
+        // 게시글 검색 인덱스를 스냅샷에서 적재 (없으면 DB에서 구축)
+        postSearchIndexer.initialize();
     }
 }
@@ -0,0 +1,63 @@
+package com.example.backend.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google OAuth 호출 전용 WebClient 설정
+ * - 연결 풀 크기와 풀 대기 시간을 제한하여, 로그인이 몰려도 Google로 나가는 연결 수가 무한히 늘지 않게 합니다.
+ * - 연결/응답/읽기/쓰기 타임아웃을 지정하여 Google 응답이 느릴 때 요청이 끝없이 기다리지 않게 합니다.
+ * - 연결 풀은 애플리케이션 전체에서 하나를 재사용합니다. (요청마다 새로 만들지 않음)
+ */
+@Configuration
+public class GoogleOAuthClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider googleConnectionProvider(
+            @Value("${app.oauth.google.max-connections:100}") int maxConnections,
+            @Value("${app.oauth.google.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis,
+            @Value("${app.oauth.google.max-idle-time-ms:30000}") long maxIdleTimeMillis
+    ) {
+        return ConnectionProvider.builder("google-oauth")
+                .maxConnections(Math.max(maxConnections, 1))
+                // 풀이 가득 찼을 때 대기할 수 있는 요청 수와 시간
+                .pendingAcquireMaxCount(Math.max(maxConnections, 1) * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                // Google 쪽에서 먼저 끊은 유휴 연결을 재사용하지 않도록 유휴 시간을 제한합니다.
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .build();
+    }
+
+    @Bean
+    public WebClient googleWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider googleConnectionProvider,
+            @Value("${app.oauth.google.connect-timeout-ms:2000}") int connectTimeoutMillis,
+            @Value("${app.oauth.google.response-timeout-ms:5000}") long responseTimeoutMillis
+    ) {
+        HttpClient httpClient = HttpClient.create(googleConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                // 요청을 보낸 뒤 응답 헤더를 받기까지의 최대 시간
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                // 응답 본문 읽기/요청 쓰기가 멈춘 경우의 최대 시간
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+        // 공용 WebClient.Builder를 복제하여 다른 WebClient 설정에 영향을 주지 않습니다.
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -51,11 +51,16 @@ public class SecurityConfig {
                                 "/auth/refresh",
                                 "/auth/google/login",
                                 "/posts",
-                                "/posts/popular"
+                                "/posts/popular",
+                                "/posts/scroll",
+                                "/posts/search"
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/posts/{postId}").permitAll()
 
                         .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments/scroll").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments/{commentId}/replies").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/comments/previews").permitAll()
 
                         // 2. Role 기반 접근 제어: 관리자 권한만 허용
                         .requestMatchers("/admin/**").hasRole("ADMIN")
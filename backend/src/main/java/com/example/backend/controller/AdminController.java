@@ -0,0 +1,147 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.AccessTokenRevocationRegistry;
+import com.example.backend.cache.GoogleJwksCache;
+import com.example.backend.cache.LikedPostSetCache;
+import com.example.backend.cache.PostDetailCache;
+import com.example.backend.cache.VerifiedTokenCache;
+import com.example.backend.search.PostSearchIndex;
+import com.example.backend.search.PostSearchIndexer;
+import com.example.backend.service.LikeCountReconciler;
+import com.example.backend.service.LikeWriteBatcher;
+import com.example.backend.service.PostMaintenanceService;
+import com.example.backend.service.TrendingScoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// 관리자 전용 운영 API (SecurityConfig에서 /admin/** 는 ADMIN 권한만 허용)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+public class AdminController {
+
+    private final PostMaintenanceService postMaintenanceService;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchIndexer postSearchIndexer;
+    private final TrendingScoreService trendingScoreService;
+    private final LikeWriteBatcher likeWriteBatcher;
+    private final LikedPostSetCache likedPostSetCache;
+    private final LikeCountReconciler likeCountReconciler;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
+    private final GoogleJwksCache googleJwksCache;
+
+    // === 게시글 댓글 수 보정 (POST /api/admin/posts/comment-counts/repair) ===
+    @PostMapping("/posts/comment-counts/repair")
+    public ResponseEntity<Map<String, Integer>> repairCommentCounts(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        int repairedCount = postMaintenanceService.repairCommentCounts(chunkSize);
+
+        return ResponseEntity.ok(Map.of("repairedPosts", repairedCount));
+    }
+
+    // === 기존 게시글 미리보기 채우기 (POST /api/admin/posts/excerpts/backfill) ===
+    @PostMapping("/posts/excerpts/backfill")
+    public ResponseEntity<Map<String, Integer>> backfillExcerpts(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        int filledCount = postMaintenanceService.backfillExcerpts(chunkSize);
+
+        return ResponseEntity.ok(Map.of("filledPosts", filledCount));
+    }
+
+    // === 게시글 좋아요 수 보정 즉시 실행 (POST /api/admin/likes/reconcile) ===
+    // 평소에는 app.like.reconcile.cron 주기로 자동 실행됩니다.
+    // 전용 스레드에서 실행되므로 시작만 하고 202를 반환합니다. (결과는 /likes/reconcile/stats에서 확인, 이미 실행 중이면 409)
+    @PostMapping("/likes/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileLikeCounts() {
+
+        if (!likeCountReconciler.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("started", false));
+        }
+        return ResponseEntity.accepted().body(Map.of("started", true));
+    }
+
+    // === 마지막 좋아요 수 보정 결과 (GET /api/admin/likes/reconcile/stats) ===
+    @GetMapping("/likes/reconcile/stats")
+    public ResponseEntity<Map<String, Object>> getLikeReconcileStats() {
+        return ResponseEntity.ok(likeCountReconciler.getLastRunStats());
+    }
+
+    // === 트렌딩 점수 기준 시각 즉시 이동 (POST /api/admin/trending/rebase) ===
+    // 평소에는 app.trending.rebase-cron 주기로 자동 실행됩니다.
+    @PostMapping("/trending/rebase")
+    public ResponseEntity<Map<String, Integer>> rebaseTrendingScores() {
+
+        int rescaledCount = trendingScoreService.rebase();
+
+        return ResponseEntity.ok(Map.of("rescaledPosts", rescaledCount));
+    }
+
+    // === 기존 게시글 트렌딩 점수 채우기 (POST /api/admin/trending/backfill) ===
+    @PostMapping("/trending/backfill")
+    public ResponseEntity<Map<String, Integer>> backfillTrendingScores(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        int filledCount = trendingScoreService.backfillScores(chunkSize);
+
+        return ResponseEntity.ok(Map.of("filledPosts", filledCount));
+    }
+
+    // === 게시글 상세 캐시 통계 (GET /api/admin/cache/post-detail/stats) ===
+    @GetMapping("/cache/post-detail/stats")
+    public ResponseEntity<Map<String, Long>> getPostDetailCacheStats() {
+        return ResponseEntity.ok(postDetailCache.getStats());
+    }
+
+    // === 게시글 검색 인덱스 재구축 (POST /api/admin/search/rebuild) ===
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildSearchIndex() {
+
+        int indexedCount = postSearchIndexer.rebuild();
+
+        return ResponseEntity.ok(Map.of("indexedPosts", indexedCount));
+    }
+
+    // === 게시글 검색 인덱스 통계 (GET /api/admin/search/stats) ===
+    @GetMapping("/search/stats")
+    public ResponseEntity<Map<String, Long>> getSearchIndexStats() {
+        return ResponseEntity.ok(postSearchIndex.getStats());
+    }
+
+    // === 좋아요 group commit 통계 (GET /api/admin/likes/group-commit/stats) ===
+    @GetMapping("/likes/group-commit/stats")
+    public ResponseEntity<Map<String, Object>> getLikeGroupCommitStats() {
+        return ResponseEntity.ok(likeWriteBatcher.getStats());
+    }
+
+    // === 사용자별 좋아요 게시글 캐시 통계 (GET /api/admin/cache/liked-posts/stats) ===
+    @GetMapping("/cache/liked-posts/stats")
+    public ResponseEntity<Map<String, Long>> getLikedPostSetCacheStats() {
+        return ResponseEntity.ok(likedPostSetCache.getStats());
+    }
+
+    // === 검증된 Access Token 캐시 통계 (GET /api/admin/cache/verified-tokens/stats) ===
+    @GetMapping("/cache/verified-tokens/stats")
+    public ResponseEntity<Map<String, Long>> getVerifiedTokenCacheStats() {
+        return ResponseEntity.ok(verifiedTokenCache.getStats());
+    }
+
+    // === Access Token 폐기 목록 통계 (GET /api/admin/auth/revocations/stats) ===
+    @GetMapping("/auth/revocations/stats")
+    public ResponseEntity<Map<String, Long>> getRevocationStats() {
+        return ResponseEntity.ok(accessTokenRevocationRegistry.getStats());
+    }
+
+    // === Google id_token 공개 키(JWKS) 캐시 통계 (GET /api/admin/cache/google-jwks/stats) ===
+    @GetMapping("/cache/google-jwks/stats")
+    public ResponseEntity<Map<String, Long>> getGoogleJwksCacheStats() {
+        return ResponseEntity.ok(googleJwksCache.getStats());
+    }
+}
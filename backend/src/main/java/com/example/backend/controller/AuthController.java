@@ -1,6 +1,6 @@
 package com.example.backend.controller;
 
-import com.example.backend.dto.LoginResultWrapper;
+import com.example.backend.dto.IssuedTokens;
 import com.example.backend.dto.ProfileResponseDTO;
 import com.example.backend.entity.User;
 import com.example.backend.exception.RefreshTokenExpiredException;
@@ -12,17 +12,22 @@ import com.example.backend.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
 
 // 로그인 된(인증된) 사용자의 상태 관리 및 필요한 데이터 제공
 // (인증 이후 상태 관리에 집중)
+@Slf4j
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor // ⭐️ final 필드를 주입받는 생성자를 자동으로 생성합니다.
@@ -39,40 +44,44 @@ public class AuthController {
     /**
      * Google 로그인 후 프론트엔드에서 인증 코드를 보내는 API 엔드포인트
      * 이 컨트롤러는 리다이렉션 대신 JSON 응답을 반환합니다.
+     * Google 호출을 기다리는 동안 요청 스레드를 반환하도록 Mono를 반환합니다. (Spring MVC 비동기 처리)
      * @param requestBody frontend에서 받은 code가 담긴 요청 본문
      * @return JWT와 사용자 프로필 정보가 담긴 DTO
      */
     @PostMapping("/google/login")
-    public ResponseEntity<?> googleLogin(
-            @RequestBody Map<String, String> requestBody, HttpServletResponse response
+    public Mono<ResponseEntity<?>> googleLogin(
+            @RequestBody Map<String, String> requestBody,
+            @RequestHeader(value = "User-Agent", required = false) String userAgent
     ) {
         System.out.println("googleLogin 메소드 진입");
 
         String code = requestBody.get("code");
 
-        try {
-            // 1. 서비스로부터 Wrapper 객체를 받습니다.
-            LoginResultWrapper resultWrapper = oAuthService.getJwtAndProfileResponse(code);
-
-            System.out.println("로그인 후 refresh: " + resultWrapper.getRefreshToken());
-
-            // 2. Wrapper에서 RT를 꺼내 HttpOnly 쿠키에 담아 헤더로 보냅니다.
-            cookieUtil.addJwtCookie(response, "refreshToken", resultWrapper.getRefreshToken(), refreshTokenValidityInSeconds); // 1일 20초 (s)
-
-            // 3. Wrapper에서 응답 DTO를 꺼내 바디로 반환합니다.
-            return ResponseEntity.ok(resultWrapper.getLoginResponseDTO());
-        } catch (UserWithdrawnException e) {
-            // ⭐️ UserWithdrawnException 발생 시 403과 메시지를 직접 반환 ⭐️
-            Map<String, String> errorResponse = new HashMap<>();
-            errorResponse.put("error", "UserWithdrawn");
-            errorResponse.put("message", e.getMessage());
-
-            return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN); // 403
-
-        } catch (Exception e) {
-            // 그 외 예상치 못한 모든 오류를 500으로 처리
-            return new ResponseEntity<>("로그인 처리 중 알 수 없는 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+        // 1. 서비스로부터 Wrapper 객체를 받습니다.
+        return oAuthService.getJwtAndProfileResponse(code, userAgent)
+                .<ResponseEntity<?>>map(resultWrapper -> {
+                    // 2. Wrapper에서 RT를 꺼내 HttpOnly 쿠키에 담아 헤더로 보냅니다.
+                    ResponseCookie refreshTokenCookie = cookieUtil.createJwtCookie(
+                            "refreshToken", resultWrapper.getRefreshToken(), refreshTokenValidityInSeconds);
+
+                    // 3. Wrapper에서 응답 DTO를 꺼내 바디로 반환합니다.
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                            .body(resultWrapper.getLoginResponseDTO());
+                })
+                .onErrorResume(UserWithdrawnException.class, e -> {
+                    // ⭐️ UserWithdrawnException 발생 시 403과 메시지를 직접 반환 ⭐️
+                    Map<String, String> errorResponse = new HashMap<>();
+                    errorResponse.put("error", "UserWithdrawn");
+                    errorResponse.put("message", e.getMessage());
+
+                    return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN)); // 403
+                })
+                .onErrorResume(e -> {
+                    // 그 외 예상치 못한 모든 오류(Google 응답 지연/실패 포함)를 500으로 처리
+                    log.warn("googleLogin 실패", e);
+                    return Mono.just(new ResponseEntity<>("로그인 처리 중 알 수 없는 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR));
+                });
     }
 
     // 새로고침 시 사용자 정보를 복구하는 API
@@ -144,14 +153,18 @@ public class AuthController {
 
         System.out.println("refreshToken 메소드 진입");
         try {
-            String newAccessToken = authService.refreshAccessToken(request);
+            IssuedTokens tokens = authService.refreshAccessToken(request);
 
-            System.out.println("AuthController - newAccessToken token: " + newAccessToken);
+            // 1. Refresh Token이 재발급(rotation)되었으면 쿠키를 새 토큰으로 교체합니다.
+            if (tokens.getRefreshToken() != null) {
+                cookieUtil.addJwtCookie(response, "refreshToken", tokens.getRefreshToken(), refreshTokenValidityInSeconds);
+            }
 
             // 2. 새 Access Token 응답
-            return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+            return ResponseEntity.ok(Map.of("accessToken", tokens.getAccessToken()));
         } catch (RefreshTokenExpiredException e) {
-            // 3. Refresh Token 만료 등 예외 처리
+            // 3. Refresh Token 만료 등 예외 처리 (더 이상 쓸 수 없는 쿠키는 지웁니다)
+            cookieUtil.expireCookie(response, "refreshToken");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
     }
@@ -1,7 +1,10 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CommentPageResponseDTO;
+import com.example.backend.dto.CommentPreviewDTO;
 import com.example.backend.dto.CommentRequestDTO;
 import com.example.backend.dto.CommentResponseDTO;
+import com.example.backend.dto.CommentThreadResponseDTO;
 import com.example.backend.entity.Comment;
 import com.example.backend.service.CommentService;
 import jakarta.validation.Valid;
@@ -13,17 +16,15 @@ import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
-@RequestMapping("/posts/{postId}/comments")
 public class CommentController {
 
     private final CommentService commentService;
 
     // === 1. 댓글 생성 (POST /api/posts/{postId}/comments) ===
-    @PostMapping
+    @PostMapping("/posts/{postId}/comments")
     public ResponseEntity<CommentResponseDTO> createComment (@PathVariable Long postId, @Valid @RequestBody CommentRequestDTO request, Principal principal) {
 
         Long userId = Long.valueOf(principal.getName());
@@ -34,22 +35,57 @@ public class CommentController {
     }
 
     // === 2. 게시글별 댓글 목록 조회 (GET /api/posts/{postId}/comments) ===
-    @GetMapping
+    @GetMapping("/posts/{postId}/comments")
     public ResponseEntity<List<CommentResponseDTO>> getComments(@PathVariable Long postId) {
         // 댓글이 없어도 빈 리스트 []를 반환하며 200 OK 처리합니다.
-        List<Comment> comments = commentService.getCommentsByPost(postId);
+        // 삭제된 댓글은 조회 단계에서 제외되고, 작성자까지 한 번의 쿼리로 DTO에 담겨 옵니다.
+        List<CommentResponseDTO> response = commentService.getCommentsByPost(postId);
 
-        // 삭제되지 않은 댓글만 필터링 후 Response DTO로 변환
-        List<CommentResponseDTO> response = comments.stream()
-                .filter(c -> c.getDeletedAt() == null)
-                .map(CommentResponseDTO::new)
-                .collect(Collectors.toList());
+        return ResponseEntity.ok(response); // 200 OK
+    }
+
+    // === 2-1. 게시글별 댓글 커서 조회 (GET /api/posts/{postId}/comments/scroll?cursor=...&size=...&replySize=...) ===
+    // 최상위 댓글을 작성 순으로 size개씩 조회하고, 각 댓글의 첫 답글을 replySize개까지 함께 담습니다.
+    // 전체 댓글 수(totalCount)는 posts.comment_count에서 읽습니다.
+    @GetMapping("/posts/{postId}/comments/scroll")
+    public ResponseEntity<CommentPageResponseDTO<CommentThreadResponseDTO>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize
+    ) {
+        CommentPageResponseDTO<CommentThreadResponseDTO> response = commentService.getCommentsByCursor(postId, cursor, size, replySize);
+
+        return ResponseEntity.ok(response); // 200 OK
+    }
+
+    // === 2-2. 답글 생성 (POST /api/posts/{postId}/comments/{commentId}/replies) ===
+    @PostMapping("/posts/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<CommentResponseDTO> createReply(@PathVariable Long postId, @PathVariable Long commentId, @Valid @RequestBody CommentRequestDTO request, Principal principal) {
+
+        Long userId = Long.valueOf(principal.getName());
+
+        Comment createdReply = commentService.createReply(postId, commentId, userId, request.getContent());
+
+        return new ResponseEntity<>(new CommentResponseDTO(createdReply), HttpStatus.CREATED); // 201 Created
+    }
+
+    // === 2-3. 댓글별 답글 커서 조회 (GET /api/posts/{postId}/comments/{commentId}/replies?cursor=...&size=...) ===
+    // 전체 답글 수(totalCount)는 comments.reply_count에서 읽습니다.
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<CommentPageResponseDTO<CommentResponseDTO>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CommentPageResponseDTO<CommentResponseDTO> response = commentService.getRepliesByCursor(postId, commentId, cursor, size);
 
         return ResponseEntity.ok(response); // 200 OK
     }
 
     // === 3. 댓글 수정 (PUT /api/posts/{postId}/comments/{commentId}) ===
-    @PutMapping("/{commentId}")
+    @PutMapping("/posts/{postId}/comments/{commentId}")
     public ResponseEntity<CommentResponseDTO> updateComment (@PathVariable Long postId, @PathVariable Long commentId, @Valid @RequestBody CommentRequestDTO request, Principal principal) {
 
         Long userId = Long.valueOf(principal.getName());
@@ -61,7 +97,7 @@ public class CommentController {
     }
 
     // === 4. 댓글 소프트 삭제 (DELETE /api/posts/{postId}/comments/{commentId}) ===
-    @DeleteMapping("/{commentId}")
+    @DeleteMapping("/posts/{postId}/comments/{commentId}")
     @PreAuthorize("hasRole('ADMIN') or @commentService.isCommentOwner(#commentId, principal.name)")
     public ResponseEntity<Void> deleteSoftComment (@PathVariable Long postId, @PathVariable Long commentId, Principal principal) {
 
@@ -72,4 +108,16 @@ public class CommentController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT); // 204 No Content (성공적으로 삭제)
     }
+
+    // === 5. 여러 게시글의 최신 댓글 미리보기 (GET /api/comments/previews?postIds=1,2,3&size=3) ===
+    // 게시글 목록 카드마다 댓글 목록을 따로 요청하지 않도록, 게시글별 최신 댓글을 한 번의 쿼리로 조회합니다.
+    @GetMapping("/comments/previews")
+    public ResponseEntity<List<CommentPreviewDTO>> getCommentPreviews(
+            @RequestParam List<Long> postIds,
+            @RequestParam(defaultValue = "3") int size
+    ) {
+        List<CommentPreviewDTO> response = commentService.getCommentPreviews(postIds, size);
+
+        return ResponseEntity.ok(response); // 200 OK
+    }
 }
@@ -1,24 +1,27 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.LikeResponseDTO;
+import com.example.backend.dto.LikeStatusDTO;
+import com.example.backend.dto.LikeStatusRequestDTO;
 import com.example.backend.service.LikeService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
 
 import static com.example.backend.util.AuthUtil.getUserIdFromPrincipal;
 
 @RestController
 @RequiredArgsConstructor
-@RequestMapping("/posts/{postId}/likes")
 public class LikeController {
 
     private final LikeService likeService;
 
     // 현재 사용자의 게시글 좋아요 상태 조회
-    @GetMapping("/status")
+    @GetMapping("/posts/{postId}/likes/status")
     public ResponseEntity<LikeResponseDTO> fetchLikeStatus(@PathVariable Long postId, Principal principal) {
 
         System.out.println("LikeController - fetchLikeStatus 진입");
@@ -30,7 +33,7 @@ public class LikeController {
         return ResponseEntity.ok(likeResponseDTO);
     }
 
-    @PostMapping
+    @PostMapping("/posts/{postId}/likes")
     public ResponseEntity<LikeResponseDTO> likePost(@PathVariable Long postId, Principal principal) {
 
         System.out.println("LikeController - likePost 진입");
@@ -42,7 +45,7 @@ public class LikeController {
         return ResponseEntity.ok(likeResponseDTO);
     }
 
-    @DeleteMapping
+    @DeleteMapping("/posts/{postId}/likes")
     public ResponseEntity<LikeResponseDTO> unlikePost(@PathVariable Long postId, Principal principal) {
 
         System.out.println("LikeController - unlikePost 진입");
@@ -53,4 +56,18 @@ public class LikeController {
 
         return ResponseEntity.ok(likeResponseDTO);
     }
+
+    // 여러 게시글의 좋아요 상태 일괄 조회 (목록 화면 등에서 게시글마다 요청하지 않도록)
+    @PostMapping("/likes/status")
+    public ResponseEntity<List<LikeStatusDTO>> fetchLikeStatuses(
+            @Valid @RequestBody LikeStatusRequestDTO likeStatusRequestDTO,
+            Principal principal
+    ) {
+
+        Long userId = getUserIdFromPrincipal(principal);
+
+        List<LikeStatusDTO> likeStatuses = likeService.getLikeStatuses(likeStatusRequestDTO.getPostIds(), userId);
+
+        return ResponseEntity.ok(likeStatuses);
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CursorPageResponseDTO;
+import com.example.backend.dto.PostBatchResponseDTO;
 import com.example.backend.dto.PostCreateRequestDTO;
 import com.example.backend.dto.PostResponseDTO;
+import com.example.backend.dto.PostSummaryDTO;
 import com.example.backend.dto.PostUpdateRequestDTO;
 import com.example.backend.service.PostService;
 import jakarta.validation.Valid;
@@ -28,9 +31,9 @@ public class PostController {
     private final PostService postService;
 
     @GetMapping("/popular")
-    public ResponseEntity<List<PostResponseDTO>> getTop4PostsForMain() {
+    public ResponseEntity<List<PostSummaryDTO>> getPopularPosts() {
 
-        List<PostResponseDTO> response = postService.getTop4PostsForMain();
+        List<PostSummaryDTO> response = postService.getPopularPosts();
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -50,17 +53,54 @@ public class PostController {
 
     // === 2. 게시글 목록 조회 (GET /api/posts) ===
     @GetMapping
-    public ResponseEntity<Page<PostResponseDTO>> getPosts(
+    public ResponseEntity<Page<PostSummaryDTO>> getPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         // ⭐️ 파라미터 추가: Pageable 객체를 받아 페이징 처리
-        // Service가 Page<PostResponseDTO>를 반환합니다.
-        Page<PostResponseDTO> postPage = postService.getPosts(pageable);
+        // Service가 본문 대신 미리보기만 담은 Page<PostSummaryDTO>를 반환합니다.
+        Page<PostSummaryDTO> postPage = postService.getPosts(pageable);
 
         // 200 OK 응답 (ResponseEntity.ok() 편의 메서드 사용)
         return ResponseEntity.ok(postPage);
     }
 
+    // === 2-3. 게시글 다건 조회 (GET /api/posts?ids=1,2,3) ===
+    // ids 파라미터가 있을 때만 목록 조회 대신 이 메서드로 매핑됩니다. 조회수는 증가시키지 않습니다.
+    @GetMapping(params = "ids")
+    public ResponseEntity<PostBatchResponseDTO> getPostsByIds(@RequestParam List<Long> ids) {
+
+        PostBatchResponseDTO response = postService.getPostsByIds(ids);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // === 2-1. 게시글 목록 커서 조회 (GET /api/posts/scroll?cursor=...&size=...&sort=latest|trending) ===
+    // COUNT 쿼리 없이 커서로 다음 페이지를 조회합니다. (무한 스크롤용)
+    // sort=trending이면 좋아요/댓글/조회에 시간 감쇠를 적용한 트렌딩 점수 순으로 정렬합니다.
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDTO<PostSummaryDTO>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "latest") String sort
+    ) {
+        CursorPageResponseDTO<PostSummaryDTO> response = postService.getPostsByCursor(cursor, size, sort);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // === 2-2. 게시글 검색 (GET /api/posts/search?q=...&cursor=...&size=...) ===
+    // 제목과 본문을 검색하여 관련도(BM25) 순으로 반환합니다.
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<PostSummaryDTO>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPageResponseDTO<PostSummaryDTO> response = postService.searchPosts(q, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     // === 3. 게시글 상세 조회 (GET /api/posts/{postId}) ===
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDTO> getPostDetail(@PathVariable Long postId) {
@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글/답글 커서 페이지 응답 DTO
+ * 커서 페이지 정보에 더해, 댓글을 세지 않고 비정규화된 카운터(posts.comment_count, comments.reply_count)에서 읽은 전체 개수를 함께 전달합니다.
+ */
+@Getter
+public class CommentPageResponseDTO<T extends CommentResponseDTO> extends CursorPageResponseDTO<T> {
+
+    // 전체 개수 (댓글 조회면 게시글의 전체 댓글 수, 답글 조회면 부모 댓글의 답글 수)
+    private int totalCount;
+
+    public CommentPageResponseDTO(List<T> content, String nextCursor, boolean hasNext, int totalCount) {
+        super(content, nextCursor, hasNext);
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 하나의 최신 댓글 미리보기 (댓글 미리보기 일괄 조회 응답의 원소)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPreviewDTO {
+
+    private Long postId;
+
+    // 최신순 최상위 댓글 (최대 size개, 댓글이 없으면 빈 리스트)
+    private List<CommentResponseDTO> comments;
+}
@@ -16,11 +16,37 @@ public class CommentResponseDTO {
     private String authorName;
     private LocalDateTime createdAt;
 
+    // 부모 댓글 ID (최상위 댓글이면 null)
+    private Long parentId;
+
+    // 답글 깊이 (최상위 댓글 0)
+    private int depth;
+
+    // 바로 아래 답글 수
+    private int replyCount;
+
+    // JPQL 생성자 프로젝션용 (작성자를 같은 쿼리에서 JOIN으로 가져옵니다)
+    public CommentResponseDTO(Long commentId, String content, Long authorId, String authorName, LocalDateTime createdAt,
+                              Long parentId, int depth, int replyCount) {
+        this.commentId = commentId;
+        this.content = content;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.replyCount = replyCount;
+    }
+
     public CommentResponseDTO(Comment comment) {
         this.commentId = comment.getId();
         this.content = comment.getContent();
         this.authorId = comment.getAuthor().getId();
         this.authorName = comment.getAuthor().getName();
         this.createdAt = comment.getCreatedAt();
+        // 프록시의 ID만 읽으므로 부모 댓글을 추가로 로딩하지 않습니다.
+        this.parentId = comment.getParent() == null ? null : comment.getParent().getId();
+        this.depth = comment.getDepth();
+        this.replyCount = comment.getReplyCount();
     }
 }
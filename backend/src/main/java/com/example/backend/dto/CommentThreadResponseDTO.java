@@ -0,0 +1,27 @@
+package com.example.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최상위 댓글과 그 첫 답글 몇 개를 함께 담는 응답 DTO (댓글 커서 조회용)
+ * 나머지 답글은 replyCount를 보고 답글 커서 조회(GET .../comments/{commentId}/replies)로 이어서 가져옵니다.
+ */
+@Getter
+public class CommentThreadResponseDTO extends CommentResponseDTO {
+
+    // 작성 순 첫 답글 목록 (최대 replySize개)
+    private List<CommentResponseDTO> replies = List.of();
+
+    // JPQL 생성자 프로젝션용
+    public CommentThreadResponseDTO(Long commentId, String content, Long authorId, String authorName, LocalDateTime createdAt,
+                                    Long parentId, int depth, int replyCount) {
+        super(commentId, content, authorId, authorName, createdAt, parentId, depth, replyCount);
+    }
+
+    public void attachReplies(List<CommentResponseDTO> replies) {
+        this.replies = replies;
+    }
+}
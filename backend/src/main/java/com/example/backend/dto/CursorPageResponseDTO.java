@@ -0,0 +1,22 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반(Keyset) 페이지네이션 응답 DTO
+ * COUNT 쿼리 없이 다음 페이지 존재 여부(hasNext)와 다음 요청에 사용할 커서(nextCursor)만 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+
+    // 다음 페이지 요청 시 그대로 전달할 불투명 커서 (마지막 페이지이면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IssuedTokens {
+
+    // 응답 바디로 나갈 Access Token
+    private String accessToken;
+
+    // HttpOnly 쿠키로 나갈 Refresh Token (null이면 기존 쿠키를 그대로 사용)
+    private String refreshToken;
+}
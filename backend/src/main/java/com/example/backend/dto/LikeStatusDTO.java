@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 하나의 좋아요 상태 (좋아요 상태 일괄 조회 응답의 원소)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusDTO {
+
+    private Long postId;
+
+    // 게시글의 좋아요 수 (posts.like_count)
+    private int likeCount;
+
+    // 현재 사용자의 좋아요 상태
+    @JsonProperty("isLiked")
+    private boolean isLiked;
+
+    // LikeResponseDTO와 마찬가지로 'liked' 필드가 추가로 직렬화되지 않도록 막습니다.
+    @JsonIgnore
+    public boolean isLiked() {
+        return this.isLiked;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 게시글의 좋아요 상태 일괄 조회 요청 DTO (POST /likes/status)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusRequestDTO {
+
+    @NotEmpty(message = "조회할 게시글 ID는 필수 입력 항목 입니다.")
+    @Size(max = 100, message = "게시글은 한 번에 100개까지 조회할 수 있습니다.")
+    private List<Long> postIds;
+}
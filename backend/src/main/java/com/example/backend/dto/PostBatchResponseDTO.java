@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 다건 조회(GET /posts?ids=...) 응답 DTO
+ * 요청한 ID 순서대로 게시글을 담고, 존재하지 않거나 삭제된 게시글의 ID는 missingIds로 따로 알려줍니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostBatchResponseDTO {
+
+    private List<PostResponseDTO> posts;
+
+    private List<Long> missingIds;
+}
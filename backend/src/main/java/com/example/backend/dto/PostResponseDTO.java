@@ -32,14 +32,8 @@ public class PostResponseDTO {
         this.viewCount = post.getViewCount();
         this.likeCount = post.getLikeCount();
 
-        if (post.getCreatedAt() != null) {
-            long activeCommentCount = post.getComments().stream()
-                    .filter(c -> c.getDeletedAt() == null)
-                    .count();
-            this.commentCount = (int) activeCommentCount;
-        } else {
-            this.commentCount = 0;
-        }
+        // 댓글 컬렉션을 로딩하지 않고 비정규화된 comment_count 컬럼을 사용합니다.
+        this.commentCount = post.getCommentCount();
 
         // N+1 문제를 방지하기 위해 Fetch Join으로 로드된 author 정보를 사용합니다.
         User author = post.getAuthor();
@@ -55,7 +49,7 @@ public class PostResponseDTO {
             String content,    // 3. String
             int viewCount,     // 4. int (주의: Integer가 아닌 int)
             int likeCount,     // 5. int (주의: Integer가 아닌 int)
-            Long commentCount, // 6. Long (COUNT 함수의 결과 타입)
+            int commentCount,  // 6. int (비정규화된 comment_count 컬럼)
             Long authorId,     // 7. Long
             String authorName, // 8. String
             LocalDateTime createdAt // 9. LocalDateTime
@@ -67,7 +61,7 @@ public class PostResponseDTO {
         this.viewCount = viewCount;
         this.likeCount = likeCount;
 
-        this.commentCount = (commentCount != null) ? commentCount.intValue() : 0;
+        this.commentCount = commentCount;
 
         this.authorId = authorId;
         this.authorName = authorName;
@@ -0,0 +1,56 @@
+package com.example.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록/인기 게시글 응답 DTO
+ * 본문(content) 대신 작성/수정 시 미리 저장해 둔 미리보기(excerpt)만 담아,
+ * 목록 조회에서 TEXT 컬럼을 읽거나 직렬화하지 않습니다. (본문 전체는 상세 조회의 PostResponseDTO에서만 제공)
+ */
+@Getter
+@NoArgsConstructor
+public class PostSummaryDTO {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+
+    private int viewCount;
+    private int likeCount;
+
+    private int commentCount;
+
+    private Long authorId;
+    private String authorName;
+
+    private LocalDateTime createdAt;
+
+    // JPQL 생성자 표현식(SELECT NEW ...)에서 사용하므로 파라미터 순서와 타입을 쿼리와 맞춰야 합니다.
+    public PostSummaryDTO(
+            Long id,
+            String title,
+            String excerpt,
+            int viewCount,
+            int likeCount,
+            int commentCount,
+            Long authorId,
+            String authorName,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+
+        this.authorId = authorId;
+        this.authorName = authorName;
+
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 순 목록 조회용 요약 DTO
+ * 다음 페이지 커서를 만들기 위해 트렌딩 점수를 함께 조회하지만, 점수는 기준 시각에 따라 크기가 달라지는 내부 값이므로 응답에는 노출하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+public class TrendingPostSummaryDTO extends PostSummaryDTO {
+
+    @JsonIgnore
+    private double trendingScore;
+
+    // JPQL 생성자 표현식(SELECT NEW ...)에서 사용하므로 파라미터 순서와 타입을 쿼리와 맞춰야 합니다.
+    public TrendingPostSummaryDTO(
+            Long id,
+            String title,
+            String excerpt,
+            int viewCount,
+            int likeCount,
+            int commentCount,
+            Long authorId,
+            String authorName,
+            LocalDateTime createdAt,
+            double trendingScore
+    ) {
+        super(id, title, excerpt, viewCount, likeCount, commentCount, authorId, authorName, createdAt);
+        this.trendingScore = trendingScore;
+    }
+}
@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = {
+                // 게시글별 최상위 댓글 커서 조회(WHERE post_id = ? AND parent_id IS NULL ORDER BY created_at, id)를 인덱스 범위 스캔으로 처리하기 위한 인덱스
+                @Index(name = "idx_comments_post_parent_deleted_created_id", columnList = "post_id, parent_id, deleted_at, created_at, id"),
+                // 댓글별 답글 커서 조회(WHERE parent_id = ? ORDER BY created_at, id)를 위한 인덱스 (답글이 수만 개여도 필요한 만큼만 읽음)
+                @Index(name = "idx_comments_parent_deleted_created_id", columnList = "parent_id, deleted_at, created_at, id")
+        })
 @Getter
 @Setter
 @Builder // ⭐️ Builder 패턴 적용
@@ -16,6 +22,9 @@ import lombok.*;
 @org.hibernate.annotations.Where(clause = "deleted_at IS NULL")
 public class Comment extends BaseTimeEntity {
 
+    // 답글을 달 수 있는 최대 깊이 (최상위 댓글이 0)
+    public static final int MAX_DEPTH = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,4 +43,20 @@ public class Comment extends BaseTimeEntity {
     // ⭐️ DB 컬럼명 post_id를 명시적으로 지정
     @JoinColumn(name = "post_id", nullable = false)
     private Post post; // 이 댓글이 달린 게시글 객체
+
+    // --- 부모 댓글 (Comment) 매핑: 최상위 댓글이면 null ---
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Comment parent;
+
+    // 답글 깊이 (최상위 댓글 0, 답글 1, 답글의 답글 2 ...)
+    @Builder.Default
+    @Column(nullable = false)
+    private int depth = 0;
+
+    // 삭제되지 않은 바로 아래 답글 수 (읽을 때마다 집계하지 않도록 답글 작성/삭제 시 원자적 UPDATE로 유지)
+    // 댓글 수정/삭제 시 읽어 둔 값을 되써서 그 사이의 증감을 잃지 않도록 UPDATE에서 제외합니다.
+    @Builder.Default
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private int replyCount = 0;
 }
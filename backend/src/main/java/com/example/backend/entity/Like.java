@@ -8,7 +8,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = {
+                // 한 사용자는 한 게시글에 좋아요를 한 번만 누를 수 있습니다. (동시 요청의 중복 INSERT 방지)
+                @UniqueConstraint(name = "uk_likes_post_user", columnNames = {"post_id", "user_id"})
+        })
 @Getter
 @Setter
 @Builder // ⭐️ Builder 패턴 적용
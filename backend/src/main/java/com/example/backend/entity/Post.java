@@ -7,7 +7,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                // 커서 기반 목록 조회(ORDER BY created_at DESC, id DESC)를 인덱스 범위 스캔으로 처리하기 위한 인덱스
+                @Index(name = "idx_posts_deleted_created_id", columnList = "deleted_at, created_at, id"),
+                // 인기 게시글 조회(ORDER BY like_count DESC, created_at DESC)를 집계 없이 인덱스 순서로 처리하기 위한 인덱스
+                @Index(name = "idx_posts_deleted_like_created", columnList = "deleted_at, like_count, created_at"),
+                // 트렌딩 순 커서 조회(ORDER BY trending_score DESC, id DESC)를 위한 인덱스
+                @Index(name = "idx_posts_deleted_trending_id", columnList = "deleted_at, trending_score, id")
+        })
 @Getter
 @Setter
 @Builder // ⭐️ Builder 패턴 적용
@@ -19,6 +27,9 @@ import java.util.List;
 @org.hibernate.annotations.Where(clause = "deleted_at IS NULL")
 public class Post extends BaseTimeEntity {
 
+    // 목록에 노출할 본문 미리보기 길이 (문자 수)
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,6 +40,10 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 본문 미리보기 (작성/수정 시 저장하여 목록에서 TEXT 컬럼을 읽지 않도록 함)
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     // --- 작성자 (User) 매핑: ManyToOne ---
     // DB 컬럼: user_id (BIGINT) -> JPA 객체: User author
     // Post (多)는 User (1)에 속하며, Post가 연관 관계의 주인이 됩니다.
@@ -44,6 +59,18 @@ public class Post extends BaseTimeEntity {
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;
 
+    // 삭제되지 않은 댓글 수 (읽을 때마다 집계하지 않도록 댓글 작성/삭제 시 원자적 UPDATE로 유지)
+    // 게시글 수정/삭제 시 읽어 둔 값을 되써서 그 사이의 증감을 잃지 않도록 UPDATE에서 제외합니다.
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount = 0;
+
+    // 좋아요/댓글/조회에 시간 감쇠를 적용한 트렌딩 점수 (trending_epoch 기준 시각에 대한 상대값, TrendingScoreService 참고)
+    // 네이티브 UPDATE로만 바꾸므로, 게시글 수정/삭제 시 읽어 둔 값을 되써서 그 사이 반영된 점수를 덮어쓰지 않도록 UPDATE에서 제외합니다.
+    @Builder.Default
+    @Column(name = "trending_score", nullable = false, updatable = false)
+    private double trendingScore = 0;
+
     // === 비즈니스 로직 편의 메서드 ===
 
     // ✨ Likes와의 일대다(OneToMany) 관계 추가
@@ -62,5 +89,29 @@ public class Post extends BaseTimeEntity {
     public void updatePost(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = toExcerpt(content);
+    }
+
+    /**
+     * 본문에서 목록용 미리보기를 만듭니다. 연속된 공백/줄바꿈은 공백 하나로 합칩니다.
+     * @param content 게시글 본문
+     * @return 최대 EXCERPT_LENGTH 문자의 미리보기
+     */
+    public static String toExcerpt(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.length() <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+
+        int end = EXCERPT_LENGTH;
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 경계를 조정합니다.
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end);
     }
 }
@@ -0,0 +1,44 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 게시글 좋아요 수의 분산 카운터 (app.like.counter.mode=sharded 에서만 사용)
+ * 좋아요 요청은 posts 행 대신 (post_id, shard) 중 하나의 행에 증감분을 기록하고,
+ * ShardedLikeCounter가 주기적으로 증감분을 posts.like_count에 합친 뒤 행을 지웁니다.
+ */
+@Entity
+@Table(name = "post_like_shards")
+@IdClass(PostLikeShard.PostLikeShardId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 protected 무인자 생성자
+public class PostLikeShard {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "shard")
+    private int shard;
+
+    // 아직 posts.like_count에 합쳐지지 않은 증감분
+    @Column(nullable = false)
+    private long delta;
+
+    /**
+     * 복합 키 (post_id, shard)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PostLikeShardId implements Serializable {
+
+        private Long postId;
+        private int shard;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기기(브라우저)별 로그인 세션 = 발급된 Refresh Token 한 개
+ * - 토큰 원문 대신 SHA-256 해시(64자)를 기본 키로 저장하므로, 재발급 시 기본 키 조회 한 번으로 찾습니다.
+ * - 재발급(rotation)할 때마다 새 행이 생기고, 같은 로그인에서 이어진 행들은 family_id를 공유합니다.
+ *   이미 재발급에 사용된 토큰(rotated_at != null)이 다시 들어오면 탈취로 보고 family 전체를 삭제합니다.
+ * - 만료된 행은 RefreshSessionService.sweepExpired가 주기적으로 나누어 삭제합니다.
+ */
+@Entity
+@Table(name = "refresh_sessions",
+        indexes = {
+                @Index(name = "idx_refresh_sessions_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_sessions_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_sessions_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 protected 무인자 생성자
+public class RefreshSession {
+
+    // SHA-256(refresh token) 16진수
+    @Id
+    @Column(name = "token_hash", columnDefinition = "CHAR(64)")
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 같은 로그인에서 재발급으로 이어진 세션들의 공통 ID (Access Token의 sid 클레임과 같음)
+    @Column(name = "family_id", nullable = false, columnDefinition = "CHAR(36)")
+    private String familyId;
+
+    // 이 세션을 만든 직전 세션의 token_hash (최초 로그인이면 null)
+    @Column(name = "parent_hash", columnDefinition = "CHAR(64)")
+    private String parentHash;
+
+    // 로그인한 기기 표시용 (User-Agent)
+    @Column(name = "device_label", length = 100)
+    private String deviceLabel;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 재발급에 사용된 시각 (아직 사용되지 않았으면 null)
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public void markAsRotated(LocalDateTime now) {
+        this.rotatedAt = now;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수(posts.trending_score)의 기준 시각을 보관하는 단일 행 테이블
+ * 점수는 "기준 시각 이후 경과 시간만큼 커진 가중치"로 누적되므로(forward decay),
+ * 기준 시각이 바뀌면 모든 점수를 같은 비율로 줄여야 합니다. (TrendingScoreService.rebase)
+ * rebase는 게시글 ID 구간 단위로 진행되므로, 진행 중에는 rebase_next_id 이상인 게시글의 점수가 아직 이전 기준 시각(previous_epoch) 기준입니다.
+ */
+@Entity
+@Table(name = "trending_epoch")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 protected 무인자 생성자
+public class TrendingEpoch {
+
+    // 항상 이 ID의 행 하나만 사용합니다. (Native Query의 JOIN 조건과 같아야 함)
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime epoch;
+
+    // 진행 중인 rebase 이전의 기준 시각 (rebase 중이 아니면 null)
+    @Column(name = "previous_epoch")
+    private LocalDateTime previousEpoch;
+
+    // 아직 새 기준 시각으로 환산하지 않은 첫 게시글 ID (rebase 중이 아니면 null)
+    @Column(name = "rebase_next_id")
+    private Long rebaseNextId;
+
+    public boolean isRebasing() {
+        return rebaseNextId != null;
+    }
+
+    public void startRebase(LocalDateTime newEpoch) {
+        this.previousEpoch = this.epoch;
+        this.epoch = newEpoch;
+        this.rebaseNextId = 1L;
+    }
+
+    public void advanceRebase(Long nextId) {
+        this.rebaseNextId = nextId;
+    }
+
+    public void finishRebase() {
+        this.previousEpoch = null;
+        this.rebaseNextId = null;
+    }
+}
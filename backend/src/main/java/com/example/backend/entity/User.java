@@ -3,7 +3,6 @@ package com.example.backend.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,12 +36,6 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private Role role = Role.ROLE_USER;
 
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
-    @Column(name = "refresh_token_expiry")
-    private LocalDateTime refreshTokenExpiry;
-
     @Column(name = "sns_provider", length = 50)
     private String snsProvider;
 
@@ -63,12 +56,6 @@ public class User extends BaseTimeEntity {
     @OneToMany(mappedBy = "user", orphanRemoval = true)
     private List<Like> likes = new ArrayList<>();
 
-    // 소셜 사용자 업데이트 메서드 (토큰 업데이트 등)
-    public void updateRefreshToken(String token, LocalDateTime expiry) {
-        this.refreshToken = token;
-        this.refreshTokenExpiry = expiry;
-    }
-
     // 사용자 생성 메서드
     public static User createSocialUser(String email, String name, String snsProvider, String snsId, Role role) {
         User user = new User(); // @NoArgsConstructor 사용
@@ -88,9 +75,8 @@ public class User extends BaseTimeEntity {
         this.name = "탈퇴회원";
         this.password = null;
 
-        // sns 정보 삭제
-        this.snsId = null;
-        this.snsProvider = null;
+        // sns 정보는 지우지 않습니다. 재로그인 시 (sns_provider, sns_id)로 이 행을 찾아야 탈퇴 회원임을 알고 차단할 수 있습니다.
+        // (지우면 같은 Google 계정으로 새 회원이 만들어집니다)
 
         // 권한 변경 (재로그인 방지)
         this.role = Role.ROLE_WITHDRAWN;
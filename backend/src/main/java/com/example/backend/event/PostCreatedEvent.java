@@ -0,0 +1,16 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글이 새로 작성되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostCreatedEvent {
+
+    private Long postId;
+    private String title;
+    private String content;
+}
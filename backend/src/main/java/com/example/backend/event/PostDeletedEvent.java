@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글이 소프트 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostDeletedEvent {
+
+    private Long postId;
+}
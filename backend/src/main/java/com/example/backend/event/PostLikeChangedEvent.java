@@ -0,0 +1,18 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글의 좋아요 수가 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후(@TransactionalEventListener) 인메모리 구조를 갱신하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikeChangedEvent {
+
+    private Long postId;
+
+    // 변경 후 최신 좋아요 수
+    private int likeCount;
+}
@@ -0,0 +1,20 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 특정 사용자의 게시글 좋아요 여부가 실제로 바뀌었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 사용자별 좋아요 게시글 캐시(LikedPostSetCache)를 갱신하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikeToggledEvent {
+
+    private Long postId;
+
+    private Long userId;
+
+    // 변경 후 좋아요 여부 (좋아요면 true, 취소면 false)
+    private boolean liked;
+}
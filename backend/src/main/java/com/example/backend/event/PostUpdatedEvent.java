@@ -0,0 +1,16 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글의 제목/내용이 수정되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostUpdatedEvent {
+
+    private Long postId;
+    private String title;
+    private String content;
+}
@@ -0,0 +1,15 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 탈퇴로 특정 사용자가 작성한 게시글의 작성자가 일괄 익명화되었을 때 발행되는 이벤트
+ * 벌크 UPDATE라 대상 게시글 ID를 알 수 없으므로 원래 작성자 ID를 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostsAnonymizedEvent {
+
+    private Long originalUserId;
+}
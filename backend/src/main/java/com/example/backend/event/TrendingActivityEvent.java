@@ -0,0 +1,23 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 트렌딩 점수에 반영할 활동(좋아요, 댓글 및 그 취소)이 일어났을 때 발행되는 이벤트
+ * 커밋 이후(@TransactionalEventListener) TrendingScoreBuffer에 모였다가 한 번에 반영됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingActivityEvent {
+
+    private Long postId;
+
+    // 활동 가중치 (취소면 음수)
+    private double weight;
+
+    // 활동이 일어난 시각 (취소면 원래 활동의 시각이므로, 처음 더한 만큼만 차감됩니다)
+    private LocalDateTime occurredAt;
+}
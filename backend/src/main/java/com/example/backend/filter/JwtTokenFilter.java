@@ -1,6 +1,7 @@
 package com.example.backend.filter;
 
-import com.example.backend.service.UserService;
+import com.example.backend.cache.AccessTokenRevocationRegistry;
+import com.example.backend.cache.VerifiedTokenCache;
 import com.example.backend.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -10,7 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,13 +21,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -53,15 +59,41 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             jwt = authHeader.substring(7);
 
             try {
-                // 토큰 유효성 검사
-                Claims claims = jwtUtil.parseClaims(jwt);
+                // 토큰 유효성 검사 (이미 검증된 토큰이면 서명 검증과 파싱을 건너뜁니다)
+                Claims claims = verifiedTokenCache.get(jwt);
+                if (claims == null) {
+                    claims = jwtUtil.parseClaims(jwt);
+                    verifiedTokenCache.put(jwt, claims);
+                }
                 System.out.println("토큰 유효성 검사 완료");
 
+                // Access Token만 허용합니다. (Refresh Token은 유효 기간이 길고 폐기 목록 보관 기간보다 오래 살아 있으므로 거부)
+                if (!JwtUtil.ACCESS_TOKEN_TYPE.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
+                    return;
+                }
+
                 // 클레임에서 사용자 아이디 가져오기
                 userId = (Long) Long.parseLong(claims.getSubject());
 
+                // 탈퇴/로그아웃으로 폐기된 토큰인지 확인 (DB 조회 없이 인메모리 폐기 목록만 확인)
+                if (accessTokenRevocationRegistry.isRevoked(userId, claims)) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Revoked JWT token");
+                    return;
+                }
+
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userService.loadUserByUsername(String.valueOf(userId));
+                    // 사용자 조회 없이 토큰의 role 클레임으로 권한을 만듭니다.
+                    // 역할이 바뀌어도 이미 발급된 Access Token이 만료될 때까지는 발급 당시 역할이 적용됩니다.
+                    String role = claims.get("role", String.class);
+                    if (role == null) {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
+                        return;
+                    }
+                    List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
+
+                    // 기존 UserService.loadUserByUsername과 같은 형태의 UserDetails (username = 사용자 ID)
+                    UserDetails userDetails = new User(String.valueOf(userId), "", authorities);
 
                     System.out.println("인증 객체 생성");
 
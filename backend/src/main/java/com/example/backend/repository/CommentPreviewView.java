@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 최신 댓글 미리보기 조회 결과 (인터페이스 기반 프로젝션)
+ */
+public interface CommentPreviewView {
+
+    Long getCommentId();
+
+    Long getPostId();
+
+    String getContent();
+
+    Long getAuthorId();
+
+    String getAuthorName();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getReplyCount();
+}
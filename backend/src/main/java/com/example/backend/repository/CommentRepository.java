@@ -1,12 +1,20 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.CommentResponseDTO;
+import com.example.backend.dto.CommentThreadResponseDTO;
 import com.example.backend.entity.Comment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Comment 엔티티에 대한 데이터 접근(Repository) 인터페이스
@@ -21,6 +29,209 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByPostId(Long postId);
 
+    /**
+     * 특정 게시글의 댓글 전체(답글 포함)를 작성자와 함께 응답 DTO로 조회합니다. (작성 순)
+     * 작성자를 JOIN으로 함께 읽으므로 댓글마다 작성자 조회 쿼리가 추가로 실행되지 않습니다.
+     * c.parent.id는 parent_id 컬럼을 그대로 읽으므로 부모 댓글과 JOIN하지 않습니다.
+     * @param postId 게시글 ID
+     * @return 댓글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.post.id = :postId
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentResponseDTO> findResponsesByPostId(@Param("postId") Long postId);
+
+    /**
+     * 최상위 댓글 커서 조회의 첫 페이지를 가져옵니다. (작성 순)
+     * @param postId 게시글 ID
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 최상위 댓글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentThreadResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.post.id = :postId AND c.parent IS NULL
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentThreadResponseDTO> findFirstPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서(이전 페이지 마지막 댓글의 createdAt, id) 이후의 최상위 댓글을 가져옵니다.
+     * OFFSET 없이 idx_comments_post_parent_deleted_created_id 인덱스 범위 스캔으로 처리됩니다.
+     * @param postId 게시글 ID
+     * @param createdAt 커서 댓글의 작성 시각
+     * @param id 커서 댓글의 ID (작성 시각이 같은 댓글 간 순서 보장)
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 최상위 댓글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentThreadResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.post.id = :postId AND c.parent IS NULL
+          AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentThreadResponseDTO> findNextPageByPostId(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 답글 커서 조회의 첫 페이지를 가져옵니다. (작성 순)
+     * @param parentId 부모 댓글 ID
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 답글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.parent.id = :parentId
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentResponseDTO> findFirstReplyPage(@Param("parentId") Long parentId, Pageable pageable);
+
+    /**
+     * 커서 이후의 답글을 가져옵니다. (idx_comments_parent_deleted_created_id 인덱스 범위 스캔)
+     * @param parentId 부모 댓글 ID
+     * @param createdAt 커서 답글의 작성 시각
+     * @param id 커서 답글의 ID
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 답글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.parent.id = :parentId
+          AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentResponseDTO> findNextReplyPage(
+            @Param("parentId") Long parentId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 여러 부모 댓글 각각의 첫 답글 ID를 최대 limit개씩 가져옵니다.
+     * LATERAL 서브쿼리로 부모마다 인덱스에서 limit개만 읽으므로, 답글이 수만 개인 댓글이 섞여 있어도 읽는 행 수가 늘지 않습니다.
+     * @param parentIds 부모 댓글 ID 목록
+     * @param limit 부모당 답글 수
+     * @return 답글 ID 목록
+     */
+    @Query(value = """
+        SELECT r.id
+        FROM comments p,
+        LATERAL (
+            SELECT c.id
+            FROM comments c
+            WHERE c.parent_id = p.id AND c.deleted_at IS NULL
+            ORDER BY c.created_at ASC, c.id ASC
+            LIMIT :limit
+        ) AS r
+        WHERE p.id IN :parentIds
+    """, nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    /**
+     * 답글 ID 목록을 작성자와 함께 응답 DTO로 조회합니다. (부모별, 작성 순)
+     * @param ids 답글 ID 목록
+     * @return 답글 응답 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.CommentResponseDTO(
+            c.id, c.content, a.id, a.name, c.createdAt, c.parent.id, c.depth, c.replyCount
+        )
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.id IN :ids
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentResponseDTO> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 게시글 각각의 최신 최상위 댓글을 최대 size개씩 작성자 이름과 함께 한 번의 쿼리로 가져옵니다.
+     * ROW_NUMBER()로 게시글별 순위를 먼저 매긴 뒤, 순위 안에 든 댓글만 본문/작성자와 JOIN합니다.
+     * (순위 계산 단계에서는 TEXT 본문을 읽지 않아 임시 테이블이 커지지 않습니다)
+     * @param postIds 게시글 ID 목록
+     * @param size 게시글당 댓글 수
+     * @return 게시글 ID 순, 게시글 안에서는 최신순으로 정렬된 댓글 목록
+     */
+    @Query(value = """
+        SELECT c.id AS commentId,
+               c.post_id AS postId,
+               c.content AS content,
+               u.id AS authorId,
+               u.name AS authorName,
+               c.created_at AS createdAt,
+               c.reply_count AS replyCount
+        FROM (
+            SELECT rc.id,
+                   ROW_NUMBER() OVER (PARTITION BY rc.post_id ORDER BY rc.created_at DESC, rc.id DESC) AS rn
+            FROM comments rc
+            WHERE rc.post_id IN :postIds AND rc.parent_id IS NULL AND rc.deleted_at IS NULL
+        ) ranked
+        JOIN comments c ON c.id = ranked.id
+        JOIN users u ON u.id = c.user_id
+        WHERE ranked.rn <= :size
+        ORDER BY c.post_id, ranked.rn
+    """, nativeQuery = true)
+    List<CommentPreviewView> findLatestPreviewsByPostIds(@Param("postIds") Collection<Long> postIds, @Param("size") int size);
+
+    // 삭제되지 않은 댓글을 쓰기 락과 함께 조회합니다.
+    // 답글 작성(부모 댓글)과 댓글 삭제가 같은 댓글 행을 먼저 잠그므로, 삭제 중인 댓글에 답글이 새로 달리지 않습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Comment c WHERE c.id = :commentId")
+    Optional<Comment> findByIdForUpdate(@Param("commentId") Long commentId);
+
+    // 락 없이 부모 댓글 ID만 읽습니다. (댓글 삭제 시 부모 댓글 행을 먼저 잠그기 위해 사용, 최상위 댓글이거나 없는 댓글이면 null)
+    @Query(value = "SELECT c.parent_id FROM comments c WHERE c.id = :commentId", nativeQuery = true)
+    Long findParentIdById(@Param("commentId") Long commentId);
+
+    // 주어진 댓글들의 바로 아래 답글(삭제되지 않은 것)을 쓰기 락과 함께 조회합니다. (커밋된 최신 답글까지 읽고, 그 사이 새 답글 추가를 막음)
+    @Query(value = """
+        SELECT c.id AS id, c.created_at AS createdAt
+        FROM comments c
+        WHERE c.parent_id IN :parentIds AND c.deleted_at IS NULL
+        FOR UPDATE
+    """, nativeQuery = true)
+    List<CommentTimeView> findLiveRepliesForUpdate(@Param("parentIds") Collection<Long> parentIds);
+
+    // 여러 댓글을 한 번에 소프트 삭제합니다. (부모 댓글과 함께 삭제되는 답글용)
+    @Modifying
+    @Query(value = "UPDATE comments SET deleted_at = NOW() WHERE id IN :ids AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 답글 작성 시 부모 댓글의 updated_at 변경을 막기 위해, 답글 수 업데이트는 별도의 벌크 쿼리로 처리
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :commentId")
+    void incrementReplyCount(@Param("commentId") Long commentId);
+
+    // 0 미만으로 내려가지 않도록 조건을 둡니다.
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :commentId AND c.replyCount > 0")
+    void decrementReplyCount(@Param("commentId") Long commentId);
+
     /**
      * 특정 작성자(User)가 작성한 모든 댓글의 user_id를 더미 id로 수정합니다.
      * @param originalId 현재 작성자의 ID
@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 ID와 작성 시각만 읽어 오는 인터페이스 기반 프로젝션
+ * 댓글을 삭제할 때 함께 삭제되는 답글의 트렌딩 가중치를 계산하는 데 사용합니다.
+ */
+public interface CommentTimeView {
+
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,18 @@
+package com.example.backend.repository;
+
+/**
+ * 좋아요 수 보정 작업에서 읽어 오는 게시글별 저장된 좋아요 수와 실제 좋아요 수 (인터페이스 기반 프로젝션)
+ */
+public interface LikeCountDriftView {
+
+    Long getPostId();
+
+    // posts.like_count
+    Integer getStoredCount();
+
+    // 아직 posts.like_count에 합쳐지지 않은 분산 카운터 합계 (분산 카운터 모드가 아니면 0)
+    Integer getPendingDelta();
+
+    // likes 테이블 기준 실제 좋아요 수
+    Integer getActualCount();
+}
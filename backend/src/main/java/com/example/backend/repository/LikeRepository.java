@@ -1,9 +1,16 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Like;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +22,49 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     // 레코드 개수를 세는 행위이므로 표준에 따라 int가 아닌 long 사용
     long countByPost_id(Long postId);
-}
\ No newline at end of file
+
+    // 좋아요 기록을 엔티티 로딩 없이 바로 추가합니다. (uk_likes_post_user 유니크 제약이 중복을 최종적으로 막습니다)
+    // 작성 시각은 트렌딩 점수에 더한 시각과 같도록 애플리케이션에서 넘깁니다.
+    @Modifying
+    @Query(value = "INSERT INTO likes (post_id, user_id, created_at) VALUES (:postId, :userId, :createdAt)", nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt);
+
+    // 삭제할 좋아요 기록의 작성 시각을 쓰기 락과 함께 조회합니다. (좋아요 상태가 아니면 null)
+    @Query(value = "SELECT created_at FROM likes WHERE post_id = :postId AND user_id = :userId FOR UPDATE", nativeQuery = true)
+    LocalDateTime findCreatedAtForUpdate(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 기록을 엔티티 로딩 없이 바로 삭제합니다.
+    // @return 삭제된 행 수 (좋아요 상태가 아니었으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 주어진 게시글 중 사용자가 좋아요를 누른 게시글 ID를 조회합니다. (uk_likes_post_user 인덱스 사용)
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 사용자가 좋아요를 누른 게시글 ID를 조회합니다. (LikedPostSetCache 적재용, 순서는 보장하지 않음)
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // === 좋아요 묶음 처리(group commit)용 ===
+
+    // 주어진 사용자 중 이미 좋아요를 누른 사용자와 그 좋아요의 작성 시각을 조회합니다.
+    @Query("SELECT l.user.id AS userId, l.createdAt AS createdAt FROM Like l WHERE l.post.id = :postId AND l.user.id IN :userIds")
+    List<LikeTimeView> findLikeTimes(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
+
+    // 여러 사용자의 좋아요 기록을 한 번의 INSERT로 추가합니다. (존재하지 않는 사용자는 제외)
+    @Modifying
+    @Query(value = """
+        INSERT INTO likes (post_id, user_id, created_at)
+        SELECT :postId, u.id, :createdAt
+        FROM users u
+        WHERE u.id IN :userIds
+    """, nativeQuery = true)
+    int insertLikes(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds, @Param("createdAt") LocalDateTime createdAt);
+
+    // 여러 사용자의 좋아요 기록을 한 번의 DELETE로 삭제합니다.
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE post_id = :postId AND user_id IN :userIds", nativeQuery = true)
+    int deleteLikes(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요를 누른 사용자 ID와 그 좋아요의 작성 시각만 읽어 오는 인터페이스 기반 프로젝션
+ * 좋아요 묶음 처리에서 취소된 좋아요의 트렌딩 가중치를 계산할 때 사용합니다.
+ */
+public interface LikeTimeView {
+
+    Long getUserId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package com.example.backend.repository;
+
+/**
+ * 게시글 ID와 본문만 읽어 오는 인터페이스 기반 프로젝션
+ * 기존 게시글의 미리보기(excerpt)를 Java에서 계산해 채울 때 사용합니다.
+ */
+public interface PostContentView {
+
+    Long getId();
+
+    String getContent();
+}
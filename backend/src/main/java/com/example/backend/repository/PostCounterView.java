@@ -0,0 +1,16 @@
+package com.example.backend.repository;
+
+/**
+ * 게시글의 카운터 컬럼만 읽어 오는 인터페이스 기반 프로젝션
+ * TEXT 컬럼(content)과 작성자 조인 없이 PK로 좁은 컬럼만 조회할 때 사용합니다.
+ */
+public interface PostCounterView {
+
+    Long getId();
+
+    int getViewCount();
+
+    int getLikeCount();
+
+    int getCommentCount();
+}
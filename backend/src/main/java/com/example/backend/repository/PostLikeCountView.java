@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+/**
+ * 게시글 ID와 좋아요 수만 읽어 오는 인터페이스 기반 프로젝션 (좋아요 상태 일괄 조회용)
+ */
+public interface PostLikeCountView {
+
+    Long getPostId();
+
+    Integer getLikeCount();
+}
@@ -0,0 +1,36 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.PostLikeShard;
+import com.example.backend.entity.PostLikeShard.PostLikeShardId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostLikeShardRepository extends JpaRepository<PostLikeShard, PostLikeShardId> {
+
+    // 분산 카운터 한 칸에 증감분을 더합니다. (행이 없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_like_shards (post_id, shard, delta)
+        VALUES (:postId, :shard, :delta)
+        ON DUPLICATE KEY UPDATE delta = delta + :delta
+    """, nativeQuery = true)
+    int addDelta(@Param("postId") Long postId, @Param("shard") int shard, @Param("delta") long delta);
+
+    // 합칠 증감분이 남아 있는 게시글 ID를 조회합니다.
+    @Query(value = "SELECT DISTINCT post_id FROM post_like_shards LIMIT :limit", nativeQuery = true)
+    List<Long> findPendingPostIds(@Param("limit") int limit);
+
+    // 게시글의 모든 분산 카운터 행에 쓰기 락을 걸고 증감분 합계를 가져옵니다.
+    @Query(value = "SELECT CAST(COALESCE(SUM(delta), 0) AS SIGNED) FROM post_like_shards WHERE post_id = :postId FOR UPDATE", nativeQuery = true)
+    Long sumDeltaForUpdate(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_like_shards WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostIdNative(@Param("postId") Long postId);
+}
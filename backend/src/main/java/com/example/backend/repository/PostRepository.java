@@ -1,6 +1,7 @@
 package com.example.backend.repository;
 
-import com.example.backend.dto.PostResponseDTO;
+import com.example.backend.dto.PostSummaryDTO;
+import com.example.backend.dto.TrendingPostSummaryDTO;
 import com.example.backend.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +10,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,51 +22,421 @@ import java.util.Optional;
  * JpaRepository를 상속받아 기본 CRUD 메서드(save, findById, findAll, delete 등)를 자동 제공받습니다.
  */
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
+    // 댓글 수는 비정규화된 comment_count 컬럼을 읽으므로 집계(GROUP BY) 없이 인덱스 순서로 정렬됩니다.
+    // List를 반환하므로 COUNT 쿼리는 실행되지 않습니다.
     @Query(value = """
-        SELECT NEW com.example.backend.dto.PostResponseDTO(
-            p.id, p.title, p.content, p.viewCount, p.likeCount,
-            COUNT(c.id),
-            p.author.id, p.author.name, p.createdAt
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
         )
         FROM Post p
         JOIN p.author a
-        LEFT JOIN Comment c ON c.post = p AND c.deletedAt IS NULL
         WHERE p.deletedAt IS NULL
-        GROUP BY p.id, p.title, p.content, p.viewCount, p.likeCount, p.author.id, p.author.name, p.createdAt
         ORDER BY p.likeCount DESC, p.createdAt DESC
     """)
-    Page<PostResponseDTO> findTopNByLikeCount(Pageable pageable);
+    List<PostSummaryDTO> findTopNByLikeCount(Pageable pageable);
 
-    // 게시글 조회 시 updated_at 변경을 막기 위해, 조회수 업데이트는 별도의 Native Query로 처리
-    @Modifying // DML 쿼리임을 명시 (데이터 변경)
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
+    // 게시글 한 건을 목록용 요약 DTO로 조회합니다. (인기 게시글 리더보드에 새로 진입하는 게시글 적재용)
+    @Query("""
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
+        )
+        FROM Post p
+        JOIN p.author a
+        WHERE p.id = :postId
+    """)
+    Optional<PostSummaryDTO> findSummaryById(@Param("postId") Long postId);
 
-    // 좋아요 눌렀을 때 updated_at 변경을 막기 위해, 조회수 업데이트는 별도의 Native Query로 처리
-    @Modifying
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
-    void incrementLikeCount(@Param("postId") Long postId);
+    /**
+     * 트렌딩 순 커서 조회의 첫 페이지를 가져옵니다.
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 트렌딩 점수 내림차순 게시글 요약 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.TrendingPostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt, p.trendingScore
+        )
+        FROM Post p
+        JOIN p.author a
+        ORDER BY p.trendingScore DESC, p.id DESC
+    """)
+    List<TrendingPostSummaryDTO> findFirstPageByTrending(Pageable pageable);
 
-    // 좋아요 취소했을 때 updated_at 변경을 막기 위해, 조회수 업데이트는 별도의 Native Query로 처리
+    /**
+     * 커서(이전 페이지 마지막 게시글의 trendingScore, id) 이후의 트렌딩 순 게시글을 가져옵니다.
+     * @param trendingScore 이전 페이지 마지막 게시글의 트렌딩 점수 (현재 기준 시각으로 환산한 값)
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 커서 이후의 트렌딩 점수 내림차순 게시글 요약 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.TrendingPostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt, p.trendingScore
+        )
+        FROM Post p
+        JOIN p.author a
+        WHERE (p.trendingScore, p.id) < (:trendingScore, :id)
+        ORDER BY p.trendingScore DESC, p.id DESC
+    """)
+    List<TrendingPostSummaryDTO> findNextPageByTrending(@Param("trendingScore") double trendingScore,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // 여러 게시글을 요약 DTO로 한 번에 조회합니다. (검색 결과 적재용, 순서는 호출 측에서 맞춥니다)
+    @Query("""
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
+        )
+        FROM Post p
+        JOIN p.author a
+        WHERE p.id IN :postIds AND p.deletedAt IS NULL
+    """)
+    List<PostSummaryDTO> findSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글 목록을 요약 DTO 프로젝션으로 한 번에 조회합니다.
+     * 작성자는 JOIN, 댓글 수는 comment_count 컬럼으로 가져오므로 Post.comments 컬렉션과 author를 지연 로딩하지 않습니다.
+     * 본문(TEXT) 대신 미리보기(excerpt)만 읽습니다.
+     * (목록 1페이지 = 목록 쿼리 1회 + COUNT 쿼리 1회로 고정)
+     * 정렬은 Pageable의 Sort가 'p' 별칭 기준으로 ORDER BY에 추가됩니다.
+     * @param pageable 페이징 및 정렬 정보
+     * @return PostSummaryDTO Page
+     */
+    @Query(value = """
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
+        )
+        FROM Post p
+        JOIN p.author a
+    """,
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryDTO> findPostList(Pageable pageable);
+
+    /**
+     * 커서 기반 목록 조회의 첫 페이지를 가져옵니다.
+     * List를 반환하므로 Page와 달리 COUNT 쿼리가 실행되지 않습니다.
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 최신순 게시글 요약 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
+        )
+        FROM Post p
+        JOIN p.author a
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PostSummaryDTO> findFirstPageByCursor(Pageable pageable);
+
+    /**
+     * 커서 (createdAt, id) 이후의 게시글을 가져옵니다.
+     * (created_at, id) < (?, ?) 조건으로 인덱스를 탐색(seek)하므로 페이지 깊이와 상관없이 일정한 비용으로 조회됩니다.
+     * @param createdAt 이전 페이지 마지막 게시글의 작성 시각
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회할 개수 (LIMIT)만 사용합니다.
+     * @return 커서 이후의 최신순 게시글 요약 DTO 목록
+     */
+    @Query("""
+        SELECT NEW com.example.backend.dto.PostSummaryDTO(
+            p.id, p.title, p.excerpt, p.viewCount, p.likeCount, p.commentCount,
+            a.id, a.name, p.createdAt
+        )
+        FROM Post p
+        JOIN p.author a
+        WHERE (p.createdAt, p.id) < (:createdAt, :id)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PostSummaryDTO> findNextPageByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 좋아요 취소했을 때 updated_at 변경을 막기 위해, 조회수 업데이트는 별도의 Native Query로 처리 (0 미만으로 내려가지 않도록 방어)
     @Modifying
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId")
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
     void decrementLikeCount(@Param("postId") Long postId);
 
+    /**
+     * 사용자가 아직 좋아요를 누르지 않은 경우에만 like_count를 1 증가시킵니다.
+     * 게시글 행에 쓰기 락을 먼저 잡으므로 같은 게시글에 대한 좋아요는 직렬화되고,
+     * 뒤이은 likes INSERT의 외래 키 검사가 게시글 행에 공유 락을 걸어도 교착 상태가 생기지 않습니다.
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 증가했으면 1, 이미 좋아요 상태이거나 게시글이 없으면 0
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        SET p.like_count = p.like_count + 1
+        WHERE p.id = :postId
+          AND p.deleted_at IS NULL
+          AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.post_id = :postId AND l.user_id = :userId)
+    """, nativeQuery = true)
+    int incrementLikeCountIfNotLiked(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 묶음 처리된 좋아요/취소의 순증감을 한 번에 반영합니다. (updated_at 갱신 방지를 위해 벌크 쿼리 사용)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    void addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 게시글 행에 쓰기 락을 걸고 현재 좋아요 수(아직 합쳐지지 않은 분산 카운터 포함)를 가져옵니다. (삭제되었거나 없는 게시글이면 null)
+    // 좋아요 묶음 처리 시 likes 변경보다 먼저 호출하여, 같은 게시글에 대한 단건 처리와 같은 락 순서를 유지합니다.
+    @Query(value = """
+        SELECT CAST(p.like_count + COALESCE((SELECT SUM(s.delta) FROM post_like_shards s WHERE s.post_id = p.id), 0) AS SIGNED)
+        FROM posts p
+        WHERE p.id = :postId AND p.deleted_at IS NULL
+        FOR UPDATE OF p
+    """, nativeQuery = true)
+    Integer findLikeCountByIdForUpdate(@Param("postId") Long postId);
+
+    // 게시글 행에만 쓰기 락을 겁니다. (분산 카운터 합치기 전, 삭제된 게시글 포함)
+    @Query(value = "SELECT p.id FROM posts p WHERE p.id = :postId FOR UPDATE", nativeQuery = true)
+    Long lockPostRowNative(@Param("postId") Long postId);
+
+    // 댓글 작성 시 updated_at 변경을 막기 위해, 댓글 수 업데이트는 별도의 벌크 쿼리로 처리
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    void incrementCommentCount(@Param("postId") Long postId);
+
+    // 댓글 삭제 시 updated_at 변경을 막기 위해, 댓글 수 업데이트는 별도의 벌크 쿼리로 처리 (0 미만으로 내려가지 않도록 방어)
+    // 답글이 달린 댓글을 삭제하면 함께 삭제된 답글 수만큼 한 번에 줄입니다.
+    @Modifying
+    @Query("""
+        UPDATE Post p
+        SET p.commentCount = CASE WHEN p.commentCount > :count THEN p.commentCount - :count ELSE 0 END
+        WHERE p.id = :postId
+    """)
+    void subtractCommentCount(@Param("postId") Long postId, @Param("count") int count);
+
     // 게시글 ID로 게시글과 작성자(User)를 한 번의 쿼리로 가져옵니다.
     @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :postId")
     Optional<Post> findPostWithAuthorById(@Param("postId") Long postId);
     // 기존 findById() 대신 이 메서드를 사용하면 Post와 User가 즉시 로드되어 LazyException이 해결됩니다.
 
-    // native Query로 DB에서 최신 ViewCount만 가져오기
-    @Query(value = "SELECT p.view_count FROM posts p WHERE p.id = :postId", nativeQuery = true)
-    Integer findViewCountByIdNative(@Param("postId") Long postId);
+    // 여러 게시글과 작성자(User)를 한 번의 IN 쿼리로 가져옵니다. (다건 조회의 캐시 미적중분)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id IN :postIds")
+    List<Post> findPostsWithAuthorByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 여러 게시글의 카운터만 한 번의 IN 쿼리로 가져옵니다. (다건 조회의 캐시 적중분)
+    @Query("""
+        SELECT p.id AS id, p.viewCount AS viewCount, p.likeCount AS likeCount, p.commentCount AS commentCount
+        FROM Post p
+        WHERE p.id IN :postIds
+    """)
+    List<PostCounterView> findCountersByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글의 카운터(조회수/좋아요 수/댓글 수)만 가져오기 (캐시된 상세 본문에 최신 카운터를 덧씌울 때 사용)
+    @Query("""
+        SELECT p.id AS id, p.viewCount AS viewCount, p.likeCount AS likeCount, p.commentCount AS commentCount
+        FROM Post p
+        WHERE p.id = :postId
+    """)
+    Optional<PostCounterView> findCountersById(@Param("postId") Long postId);
+
+    // posts.like_count에 아직 합쳐지지 않은 분산 카운터 합계를 더한 좋아요 수 (삭제되었거나 없는 게시글이면 null)
+    @Query(value = """
+        SELECT CAST(p.like_count + COALESCE((SELECT SUM(s.delta) FROM post_like_shards s WHERE s.post_id = p.id), 0) AS SIGNED)
+        FROM posts p
+        WHERE p.id = :postId AND p.deleted_at IS NULL
+    """, nativeQuery = true)
+    Integer findLikeCountWithShardsByIdNative(@Param("postId") Long postId);
+
+    // 여러 게시글의 좋아요 수를 한 번의 IN 쿼리로 가져옵니다. (삭제되었거나 없는 게시글은 제외)
+    @Query("""
+        SELECT p.id AS postId, p.likeCount AS likeCount
+        FROM Post p
+        WHERE p.id IN :postIds AND p.deletedAt IS NULL
+    """)
+    List<PostLikeCountView> findLikeCountsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 여러 게시글의 좋아요 수(아직 합쳐지지 않은 분산 카운터 포함)를 한 번에 가져옵니다.
+    @Query(value = """
+        SELECT p.id AS postId,
+               CAST(p.like_count + COALESCE(SUM(s.delta), 0) AS SIGNED) AS likeCount
+        FROM posts p
+        LEFT JOIN post_like_shards s ON s.post_id = p.id
+        WHERE p.id IN :postIds AND p.deleted_at IS NULL
+        GROUP BY p.id, p.like_count
+    """, nativeQuery = true)
+    List<PostLikeCountView> findLikeCountsWithShardsByIdsNative(@Param("postIds") Collection<Long> postIds);
+
+    // 삭제되지 않은 게시글이 있는지 확인합니다. (잠금 없는 일관된 읽기, 분산 카운터 모드의 좋아요 추가 전 확인용)
+    boolean existsByIdAndDeletedAtIsNull(Long id);
 
-    // native Query로 DB에서 최신 likeCount만 가져오기
-    @Query(value = "SELECT p.like_count FROM posts p WHERE p.id = :postId", nativeQuery = true)
+    // native Query로 DB에서 최신 likeCount만 가져오기 (삭제되었거나 없는 게시글이면 null)
+    @Query(value = "SELECT p.like_count FROM posts p WHERE p.id = :postId AND p.deleted_at IS NULL", nativeQuery = true)
     Integer findLikeCountByIdNative(@Param("postId") Long postId);
 
+    // 청크 단위 보정 작업의 범위를 정하기 위해 (삭제된 게시글 포함) 가장 큰 게시글 ID를 가져옵니다.
+    @Query(value = "SELECT COALESCE(MAX(p.id), 0) FROM posts p", nativeQuery = true)
+    Long findMaxIdNative();
+
+    /**
+     * [fromId, toId] 범위 게시글의 comment_count를 comments 테이블 기준으로 다시 계산합니다.
+     * 값이 어긋난 게시글만 갱신하며, 청크마다 별도 트랜잭션으로 커밋되어 락을 오래 잡지 않습니다.
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 보정된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        LEFT JOIN (
+            SELECT c.post_id, COUNT(*) AS cnt
+            FROM comments c
+            WHERE c.deleted_at IS NULL AND c.post_id BETWEEN :fromId AND :toId
+            GROUP BY c.post_id
+        ) cc ON cc.post_id = p.id
+        SET p.comment_count = COALESCE(cc.cnt, 0)
+        WHERE p.id BETWEEN :fromId AND :toId
+          AND p.comment_count <> COALESCE(cc.cnt, 0)
+    """, nativeQuery = true)
+    int repairCommentCountRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * [fromId, toId] 범위에서 like_count(+ 아직 합쳐지지 않은 분산 카운터)가 likes 테이블의 실제 좋아요 수와 다른 게시글을 찾습니다.
+     * 좋아요 수는 범위 전체에 대해 GROUP BY 한 번으로 계산하며, 한 문장이라 세 값이 같은 시점의 스냅샷에서 읽힙니다.
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 값이 어긋난 게시글 목록
+     */
+    @Query(value = """
+        SELECT p.id AS postId,
+               p.like_count AS storedCount,
+               CAST(COALESCE(sd.delta, 0) AS SIGNED) AS pendingDelta,
+               CAST(COALESCE(lc.cnt, 0) AS SIGNED) AS actualCount
+        FROM posts p
+        LEFT JOIN (
+            SELECT l.post_id, COUNT(*) AS cnt
+            FROM likes l
+            WHERE l.post_id BETWEEN :fromId AND :toId
+            GROUP BY l.post_id
+        ) lc ON lc.post_id = p.id
+        LEFT JOIN (
+            SELECT s.post_id, SUM(s.delta) AS delta
+            FROM post_like_shards s
+            WHERE s.post_id BETWEEN :fromId AND :toId
+            GROUP BY s.post_id
+        ) sd ON sd.post_id = p.id
+        WHERE p.id BETWEEN :fromId AND :toId
+          AND p.like_count + COALESCE(sd.delta, 0) <> COALESCE(lc.cnt, 0)
+    """, nativeQuery = true)
+    List<LikeCountDriftView> findLikeCountDriftsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * [fromId, toId] 범위에서 미리보기(excerpt)가 비어 있는 기존 게시글의 본문을 조회합니다.
+     * 미리보기는 Post.toExcerpt로 계산해 bulkFillExcerpts로 채웁니다. (SQL로 흉내 내면 공백/길이 규칙이 달라짐)
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 미리보기가 비어 있는 게시글의 ID와 본문
+     */
+    @Query(value = """
+        SELECT p.id AS id, p.content AS content
+        FROM posts p
+        WHERE p.id BETWEEN :fromId AND :toId
+          AND p.excerpt IS NULL
+    """, nativeQuery = true)
+    List<PostContentView> findContentsWithoutExcerptInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * [fromId, toId] 범위 게시글의 트렌딩 점수에 같은 비율을 곱합니다. (기준 시각을 옮길 때 구간 단위로 사용)
+     * 충분히 작아진 점수는 0으로 만들어 이후 rebase 대상에서 빠지게 합니다.
+     * 호출 측 트랜잭션이 기준 시각 행을 먼저 잠근 상태에서 실행해야 합니다. (점수 반영 UPDATE와 같은 잠금 순서)
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @param factor 곱할 비율 (0 초과 1 이하)
+     * @param floor 이 값보다 작아지면 0으로 처리
+     * @return 갱신된 게시글 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE posts
+        SET trending_score = CASE
+                WHEN trending_score * :factor < :floor THEN 0
+                ELSE trending_score * :factor
+            END
+        WHERE id BETWEEN :fromId AND :toId
+          AND trending_score > 0
+    """, nativeQuery = true)
+    int rescaleTrendingScoreRange(@Param("fromId") Long fromId,
+                                  @Param("toId") Long toId,
+                                  @Param("factor") double factor,
+                                  @Param("floor") double floor);
+
+    /**
+     * [fromId, toId] 범위에서 트렌딩 점수가 아직 0인 기존 게시글의 점수를 좋아요/댓글 기록으로 계산해 채웁니다.
+     * 좋아요와 댓글은 각 기록의 작성 시각으로 가중치를 계산하고, 시각 기록이 없는 조회수는 게시글 작성 시각의 활동으로 취급합니다.
+     * 기준 시각 행(상수 조건)을 먼저 읽고 게시글 행을 갱신합니다.
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 점수가 채워진 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        JOIN trending_epoch e ON e.id = 1
+        SET p.trending_score =
+                :likeWeight * COALESCE((
+                    SELECT SUM(EXP(TIMESTAMPDIFF(SECOND,
+                            CASE WHEN e.rebase_next_id IS NOT NULL AND p.id >= e.rebase_next_id THEN e.previous_epoch ELSE e.epoch END,
+                            l.created_at) / :timeScaleSeconds))
+                    FROM likes l
+                    WHERE l.post_id = p.id
+                ), 0)
+              + :commentWeight * COALESCE((
+                    SELECT SUM(EXP(TIMESTAMPDIFF(SECOND,
+                            CASE WHEN e.rebase_next_id IS NOT NULL AND p.id >= e.rebase_next_id THEN e.previous_epoch ELSE e.epoch END,
+                            c.created_at) / :timeScaleSeconds))
+                    FROM comments c
+                    WHERE c.post_id = p.id AND c.deleted_at IS NULL
+                ), 0)
+              + :viewWeight * p.view_count * EXP(TIMESTAMPDIFF(SECOND,
+                    CASE WHEN e.rebase_next_id IS NOT NULL AND p.id >= e.rebase_next_id THEN e.previous_epoch ELSE e.epoch END,
+                    p.created_at) / :timeScaleSeconds)
+        WHERE p.id BETWEEN :fromId AND :toId
+          AND p.deleted_at IS NULL
+          AND p.trending_score = 0
+    """, nativeQuery = true)
+    int backfillTrendingScoreRange(@Param("fromId") Long fromId,
+                                   @Param("toId") Long toId,
+                                   @Param("likeWeight") double likeWeight,
+                                   @Param("commentWeight") double commentWeight,
+                                   @Param("viewWeight") double viewWeight,
+                                   @Param("timeScaleSeconds") double timeScaleSeconds);
+
+    // === 검색 인덱스 구축용 조회 (PK 순서로 청크 단위 스트리밍) ===
+
+    // lastId 이후의 게시글을 ID 오름차순으로 조회합니다. (전체 구축용)
+    @Query("""
+        SELECT p.id AS id, p.title AS title, p.content AS content
+        FROM Post p
+        WHERE p.id > :lastId AND p.deletedAt IS NULL
+        ORDER BY p.id ASC
+    """)
+    List<PostSearchSource> findSearchSourcesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // since 이후 작성/수정된 게시글을 ID 오름차순으로 조회합니다. (스냅샷 이후 변경분 따라잡기용)
+    @Query("""
+        SELECT p.id AS id, p.title AS title, p.content AS content
+        FROM Post p
+        WHERE p.updatedAt >= :since AND p.id > :lastId AND p.deletedAt IS NULL
+        ORDER BY p.id ASC
+    """)
+    List<PostSearchSource> findSearchSourcesUpdatedSince(@Param("since") LocalDateTime since,
+                                                         @Param("lastId") Long lastId,
+                                                         Pageable pageable);
+
+    // since 이후 소프트 삭제된 게시글 ID를 조회합니다. (@Where 필터를 피하기 위해 Native Query 사용)
+    @Query(value = "SELECT id FROM posts WHERE deleted_at >= :since", nativeQuery = true)
+    List<Long> findIdsDeletedSinceNative(@Param("since") LocalDateTime since);
+
     /**
      * 특정 작성자(User)가 작성한 모든 게시글의 user_id를 더미 id로 수정합니다.
      * @param originalId 현재 작성자의 ID
@@ -0,0 +1,48 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Data 쿼리 메서드로 표현하기 어려운 동적 쿼리를 위한 Post 커스텀 Repository
+ * 구현체는 PostRepositoryImpl이며, PostRepository가 이 인터페이스를 함께 상속합니다.
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 여러 게시글의 조회수를 한 번의 UPDATE ... CASE 문으로 증가시키고,
+     * 같은 문장에서 조회수만큼의 트렌딩 점수 가중치도 더합니다.
+     * @param deltas 게시글 ID → 증가시킬 조회수
+     * @param viewWeight 조회 1회당 트렌딩 점수 가중치
+     * @param timeScaleSeconds 트렌딩 점수 감쇠 시간 상수
+     * @return 갱신된 게시글 수
+     */
+    int bulkAddViewCounts(Map<Long, Long> deltas, double viewWeight, double timeScaleSeconds);
+
+    /**
+     * 여러 게시글의 트렌딩 점수에 가중치를 한 번의 UPDATE ... CASE 문으로 더합니다. (0 미만으로 내려가지 않음)
+     * 가중치는 anchor 시각 기준 값이며, 각 게시글의 기준 시각(rebase 진행 중이면 아직 환산되지 않은 게시글은 이전 기준 시각)으로 환산해 더합니다.
+     * @param weights 게시글 ID → anchor 시각 기준 가중치 합계
+     * @param anchor 가중치의 기준 시각
+     * @param timeScaleSeconds 트렌딩 점수 감쇠 시간 상수
+     * @return 갱신된 게시글 수
+     */
+    int bulkAddTrendingScores(Map<Long, Double> weights, LocalDateTime anchor, double timeScaleSeconds);
+
+    /**
+     * 좋아요 수가 어긋난 게시글들의 like_count를 한 번의 UPDATE ... CASE 문으로 바로잡습니다.
+     * 조회 이후 좋아요/분산 카운터 합치기로 like_count가 바뀐 게시글은 건너뜁니다. (다음 실행에서 다시 확인)
+     * @param drifts 보정 대상 게시글 (findLikeCountDriftsInRange 결과)
+     * @return 보정된 게시글 수
+     */
+    int bulkCorrectLikeCounts(List<LikeCountDriftView> drifts);
+
+    /**
+     * 여러 게시글의 미리보기(excerpt)를 한 번의 UPDATE ... CASE 문으로 채웁니다.
+     * 조회 이후 수정되어 이미 미리보기가 생긴 게시글은 건너뜁니다.
+     * @param excerpts 게시글 ID → Post.toExcerpt로 계산한 미리보기
+     * @return 채워진 게시글 수
+     */
+    int bulkFillExcerpts(Map<Long, String> excerpts);
+}
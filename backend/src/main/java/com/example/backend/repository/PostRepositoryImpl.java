@@ -0,0 +1,200 @@
+package com.example.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    // 게시글의 트렌딩 점수 기준 시각 (rebase 진행 중이면 아직 환산되지 않은 게시글은 이전 기준 시각)
+    private static final String TRENDING_BASE =
+            "CASE WHEN e.rebase_next_id IS NOT NULL AND p.id >= e.rebase_next_id THEN e.previous_epoch ELSE e.epoch END";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 요청 스레드의 읽기 전용 트랜잭션에 합류하지 않도록 항상 독립된 쓰기 트랜잭션에서 실행합니다.
+    // updated_at 갱신을 막기 위해 Native Query로 view_count, trending_score만 변경합니다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int bulkAddViewCounts(Map<Long, Long> deltas, double viewWeight, double timeScaleSeconds) {
+
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE posts p LEFT JOIN trending_epoch e ON e.id = 1
+        // SET p.view_count = p.view_count + CASE p.id WHEN ? THEN ? ... END,
+        //     p.trending_score = p.trending_score + CASE p.id WHEN ? THEN ? ... END * ? * EXP(...)
+        // WHERE p.id IN (?, ...)
+        // 기준 시각 행이 없더라도 조회수는 유실되지 않도록 LEFT JOIN을 사용합니다.
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder sql = new StringBuilder("UPDATE posts p LEFT JOIN trending_epoch e ON e.id = 1 SET p.view_count = p.view_count + ");
+        List<Object> params = new ArrayList<>();
+
+        appendDeltaCase(sql, params, deltas);
+
+        sql.append(", p.trending_score = p.trending_score + ");
+        appendDeltaCase(sql, params, deltas);
+        sql.append(" * ?").append(params.size() + 1)
+                .append(" * EXP(TIMESTAMPDIFF(SECOND, COALESCE(").append(TRENDING_BASE).append(", ?").append(params.size() + 2)
+                .append("), ?").append(params.size() + 3)
+                .append(") / ?").append(params.size() + 4).append(")");
+        params.add(viewWeight);
+        params.add(now);
+        params.add(now);
+        params.add(timeScaleSeconds);
+
+        sql.append(" WHERE p.id IN (");
+        int i = 0;
+        for (Long postId : deltas.keySet()) {
+            sql.append(i++ > 0 ? ", ?" : "?").append(params.size() + 1);
+            params.add(postId);
+        }
+        sql.append(")");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int index = 0; index < params.size(); index++) {
+            query.setParameter(index + 1, params.get(index));
+        }
+        return query.executeUpdate();
+    }
+
+    // 좋아요/댓글 트랜잭션과 분리된 독립 트랜잭션에서 실행합니다. (TrendingScoreBuffer의 주기 반영)
+    // 취소로 인한 차감은 원래 더했던 만큼이지만, 부동소수점 오차로 음수가 되지 않도록 0에서 멈춥니다.
+    // updated_at 갱신을 막기 위해 Native Query를 사용합니다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int bulkAddTrendingScores(Map<Long, Double> weights, LocalDateTime anchor, double timeScaleSeconds) {
+
+        if (weights.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE posts p JOIN trending_epoch e ON e.id = 1
+        // SET p.trending_score = GREATEST(0, p.trending_score + CASE p.id WHEN ? THEN ? ... END * EXP(TIMESTAMPDIFF(SECOND, <기준 시각>, ?) / ?))
+        // WHERE p.id IN (?, ...)
+        StringBuilder sql = new StringBuilder("UPDATE posts p JOIN trending_epoch e ON e.id = 1 SET p.trending_score = GREATEST(0, p.trending_score + CASE p.id");
+        List<Object> params = new ArrayList<>();
+
+        for (Map.Entry<Long, Double> entry : weights.entrySet()) {
+            sql.append(" WHEN ?").append(params.size() + 1).append(" THEN ?").append(params.size() + 2);
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END * EXP(TIMESTAMPDIFF(SECOND, ").append(TRENDING_BASE)
+                .append(", ?").append(params.size() + 1)
+                .append(") / ?").append(params.size() + 2).append("))");
+        params.add(anchor);
+        params.add(timeScaleSeconds);
+
+        sql.append(" WHERE p.id IN (");
+        int i = 0;
+        for (Long postId : weights.keySet()) {
+            sql.append(i++ > 0 ? ", ?" : "?").append(params.size() + 1);
+            params.add(postId);
+        }
+        sql.append(")");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int index = 0; index < params.size(); index++) {
+            query.setParameter(index + 1, params.get(index));
+        }
+        return query.executeUpdate();
+    }
+
+    // like_count가 조회 당시 값 그대로인 행만 바꾸므로(낙관적 검사), 그 사이 반영된 좋아요를 덮어쓰지 않습니다.
+    // updated_at 갱신을 막기 위해 Native Query를 사용합니다.
+    @Override
+    @Transactional
+    public int bulkCorrectLikeCounts(List<LikeCountDriftView> drifts) {
+
+        if (drifts.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE posts p
+        // SET p.like_count = CASE p.id WHEN ? THEN ? ... ELSE p.like_count END
+        // WHERE (p.id = ? AND p.like_count = ?) OR ...
+        // 검사 조건을 WHERE에 두어야 반환되는 행 수가 실제로 보정된 게시글 수와 같습니다.
+        // 분산 카운터 모드에서는 아직 합쳐지지 않은 증감분을 빼고 저장합니다. (like_count + 증감분 = 실제 좋아요 수)
+        StringBuilder sql = new StringBuilder("UPDATE posts p SET p.like_count = CASE p.id");
+        List<Object> params = new ArrayList<>();
+
+        for (LikeCountDriftView drift : drifts) {
+            sql.append(" WHEN ?").append(params.size() + 1).append(" THEN ?").append(params.size() + 2);
+            params.add(drift.getPostId());
+            params.add(drift.getActualCount() - drift.getPendingDelta());
+        }
+        sql.append(" ELSE p.like_count END WHERE ");
+
+        int i = 0;
+        for (LikeCountDriftView drift : drifts) {
+            sql.append(i++ > 0 ? " OR " : "")
+                    .append("(p.id = ?").append(params.size() + 1)
+                    .append(" AND p.like_count = ?").append(params.size() + 2).append(")");
+            params.add(drift.getPostId());
+            params.add(drift.getStoredCount());
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int index = 0; index < params.size(); index++) {
+            query.setParameter(index + 1, params.get(index));
+        }
+        return query.executeUpdate();
+    }
+
+    // 게시글 수정 시에는 엔티티가 excerpt를 채우므로, excerpt IS NULL 조건으로 그 사이 수정된 게시글을 덮어쓰지 않습니다.
+    // updated_at 갱신을 막기 위해 Native Query를 사용합니다.
+    @Override
+    @Transactional
+    public int bulkFillExcerpts(Map<Long, String> excerpts) {
+
+        if (excerpts.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE posts p SET p.excerpt = CASE p.id WHEN ? THEN ? ... ELSE p.excerpt END
+        // WHERE p.id IN (?, ...) AND p.excerpt IS NULL
+        StringBuilder sql = new StringBuilder("UPDATE posts p SET p.excerpt = CASE p.id");
+        List<Object> params = new ArrayList<>();
+
+        for (Map.Entry<Long, String> entry : excerpts.entrySet()) {
+            sql.append(" WHEN ?").append(params.size() + 1).append(" THEN ?").append(params.size() + 2);
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append(" ELSE p.excerpt END WHERE p.id IN (");
+
+        int i = 0;
+        for (Long postId : excerpts.keySet()) {
+            sql.append(i++ > 0 ? ", ?" : "?").append(params.size() + 1);
+            params.add(postId);
+        }
+        sql.append(") AND p.excerpt IS NULL");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int index = 0; index < params.size(); index++) {
+            query.setParameter(index + 1, params.get(index));
+        }
+        return query.executeUpdate();
+    }
+
+    // CASE p.id WHEN ? THEN ? ... ELSE 0 END
+    private void appendDeltaCase(StringBuilder sql, List<Object> params, Map<Long, Long> deltas) {
+        sql.append("CASE p.id");
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(" WHEN ?").append(params.size() + 1).append(" THEN ?").append(params.size() + 2);
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END");
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+/**
+ * 검색 인덱스 구축에 필요한 컬럼(제목, 내용)만 읽어 오는 인터페이스 기반 프로젝션
+ * 작성자 조인과 카운터 컬럼 없이 ID 순서로 청크 단위 조회할 때 사용합니다.
+ */
+public interface PostSearchSource {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
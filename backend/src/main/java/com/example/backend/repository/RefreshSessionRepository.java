@@ -0,0 +1,53 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.RefreshSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, String> {
+
+    // 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 재발급하도록 세션 행에 쓰기 락을 겁니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RefreshSession s WHERE s.tokenHash = :tokenHash")
+    Optional<RefreshSession> findByIdForUpdate(@Param("tokenHash") String tokenHash);
+
+    // 기본 키가 직접 지정한 값이라 save()는 먼저 SELECT를 하므로, INSERT 한 번으로 저장합니다.
+    @Modifying
+    @Query(value = """
+        INSERT INTO refresh_sessions (token_hash, user_id, family_id, parent_hash, device_label, created_at, expires_at)
+        VALUES (:tokenHash, :userId, :familyId, :parentHash, :deviceLabel, :createdAt, :expiresAt)
+    """, nativeQuery = true)
+    int insertSession(@Param("tokenHash") String tokenHash,
+                      @Param("userId") Long userId,
+                      @Param("familyId") String familyId,
+                      @Param("parentHash") String parentHash,
+                      @Param("deviceLabel") String deviceLabel,
+                      @Param("createdAt") LocalDateTime createdAt,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 한 기기의 세션(재발급으로 이어진 행 전체)을 삭제합니다. (로그아웃, 토큰 재사용 감지)
+    @Modifying
+    @Query(value = "DELETE FROM refresh_sessions WHERE family_id = :familyId", nativeQuery = true)
+    int deleteByFamilyIdNative(@Param("familyId") String familyId);
+
+    // 사용자의 모든 기기 세션을 삭제합니다. (회원 탈퇴)
+    @Modifying
+    @Query(value = "DELETE FROM refresh_sessions WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserIdNative(@Param("userId") Long userId);
+
+    // 만료된 세션을 최대 limit개 삭제합니다. 호출마다 별도 트랜잭션으로 커밋하여 락을 짧게 유지합니다.
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_sessions WHERE expires_at <= :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,29 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.TrendingEpoch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TrendingEpochRepository extends JpaRepository<TrendingEpoch, Long> {
+
+    // 기준 시각 변경(rebase) 중에는 점수 증가 UPDATE가 기준 시각 행을 읽지 못하도록 쓰기 락을 겁니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM TrendingEpoch e WHERE e.id = :id")
+    Optional<TrendingEpoch> findByIdForUpdate(@Param("id") Long id);
+
+    // 기준 시각 행이 없을 때만 생성합니다. (여러 인스턴스가 동시에 시작해도 안전)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO trending_epoch (id, epoch) VALUES (:id, :epoch)", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("epoch") LocalDateTime epoch);
+}
@@ -1,8 +1,14 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,13 +21,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
-    /**
-     * 인증을 위해 refreshToken을 기준으로 User를 조회합니다.
-     * @param refreshToken 조회할 사용자 이메일
-     * @return User 객체 (Optional)
-     */
-    Optional<User> findByRefreshToken(String refreshToken);
-
     /**
      * 소셜 로그인 (SNS) 정보를 기반으로 User를 조회합니다.
      * DDL에서 (sns_provider, sns_id) 조합은 고유(UNIQUE)로 설정되어 있습니다.
@@ -30,4 +29,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return User 객체 (Optional)
      */
     Optional<User> findBySnsProviderAndSnsId(String snsProvider, String snsId);
+
+    /**
+     * 소셜 사용자를 한 번의 INSERT로 생성합니다. 같은 (sns_provider, sns_id) 행이 이미 있으면 아무것도 바꾸지 않습니다.
+     * 동시에 여러 요청이 실행해도 uk_sns 제약으로 한 행만 생성됩니다.
+     * (INSERT IGNORE는 길이 초과 등 다른 오류까지 경고로 바꾸므로 ON DUPLICATE KEY UPDATE를 사용합니다.)
+     * @return 영향받은 행 수 (생성 여부 판단에는 사용하지 않습니다)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO users (email, name, role, sns_provider, sns_id, created_at, updated_at)
+        VALUES (:email, :name, :role, :snsProvider, :snsId, :now, :now)
+        ON DUPLICATE KEY UPDATE id = id
+    """, nativeQuery = true)
+    int upsertSocialUser(@Param("email") String email,
+                         @Param("name") String name,
+                         @Param("snsProvider") String snsProvider,
+                         @Param("snsId") String snsId,
+                         @Param("role") String role,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 잠금 읽기(FOR SHARE)로 소셜 사용자를 조회합니다.
+     * 트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 행도 보입니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.snsProvider = :snsProvider AND u.snsId = :snsId")
+    Optional<User> findBySnsForShare(@Param("snsProvider") String snsProvider, @Param("snsId") String snsId);
 }
@@ -0,0 +1,325 @@
+package com.example.backend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문에 대한 인메모리 역색인(inverted index)
+ * - 단어(토큰)마다 해당 단어가 등장하는 게시글과 빈도를 보관합니다. (posting list)
+ * - 검색 점수는 BM25로 계산하며, 제목에 등장한 단어는 TITLE_BOOST 배의 빈도로 취급합니다.
+ * - 검색은 읽기 락, 색인 추가/삭제는 쓰기 락으로 보호합니다.
+ * - 구축/증분 갱신/스냅샷 관리는 PostSearchIndexer가 담당합니다.
+ */
+@Component
+public class PostSearchIndex {
+
+    // 제목에 등장한 단어의 빈도 가중치
+    private static final int TITLE_BOOST = 3;
+
+    // BM25 파라미터 (일반적으로 쓰이는 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 점수 내림차순 → 게시글 ID 내림차순 (커서 페이징의 정렬 순서)
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingDouble(Hit::getScore).reversed()
+            .thenComparing(Hit::getPostId, Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 단어 → (게시글 ID → 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 게시글 ID → 색인된 문서 정보 (삭제/재색인 시 posting을 찾아 지우기 위해 보관)
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    // 전체 문서 길이 합 (평균 문서 길이 계산용)
+    private long totalLength = 0;
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이면 기존 내용을 지우고 다시 색인합니다.
+     * @param postId 게시글 ID
+     * @param title 제목
+     * @param content 본문
+     */
+    public void upsert(Long postId, String title, String content) {
+
+        // 토큰화는 락 밖에서 수행합니다.
+        Map<String, Integer> frequencies = new HashMap<>();
+        SearchTokenizer.tokenize(title).forEach(token -> frequencies.merge(token, TITLE_BOOST, Integer::sum));
+        SearchTokenizer.tokenize(content).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            addLocked(postId, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     * @param postId 게시글 ID
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 모두 비웁니다. (전체 재구축 전에 호출)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 게시글을 BM25 점수 순으로 반환합니다.
+     * 이전 페이지의 마지막 (점수, ID)를 넘기면 그 다음 순위부터 반환합니다.
+     * @param query 검색어
+     * @param afterScore 이전 페이지 마지막 결과의 점수 (첫 페이지는 null)
+     * @param afterId 이전 페이지 마지막 결과의 게시글 ID (첫 페이지는 null)
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 검색 결과
+     */
+    public List<Hit> search(String query, Double afterScore, Long afterId, int limit) {
+
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenizeQuery(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    int length = documents.get(entry.getKey()).getLength();
+                    double normalized = frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), idf * normalized, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 전체를 정렬하지 않고, 커서 이후 결과 중 상위 limit개만 힙으로 고릅니다. (힙의 머리가 가장 낮은 순위)
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            Hit hit = new Hit(entry.getKey(), entry.getValue());
+            if (afterScore != null && !isAfter(hit, afterScore, afterId)) {
+                continue;
+            }
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    /**
+     * 색인 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 문서 수, 단어 수
+     */
+    public Map<String, Long> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("documentCount", (long) documents.size());
+            stats.put("termCount", (long) postings.size());
+            stats.put("totalLength", totalLength);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 내용을 스냅샷으로 기록합니다.
+     * 읽기 락 안에서는 메모리 복사만 하고, 압축/디스크 기록은 락 밖에서 하므로 기록하는 동안에도 색인 갱신이 대기하지 않습니다.
+     * @param out 출력 스트림
+     */
+    public void writeTo(DataOutput out) throws IOException {
+
+        List<Long> postIds;
+        List<String[]> termsByDocument;
+        List<int[]> frequenciesByDocument;
+
+        lock.readLock().lock();
+        try {
+            postIds = new ArrayList<>(documents.size());
+            termsByDocument = new ArrayList<>(documents.size());
+            frequenciesByDocument = new ArrayList<>(documents.size());
+
+            for (Map.Entry<Long, IndexedDocument> entry : documents.entrySet()) {
+                Long postId = entry.getKey();
+                // 단어 배열은 색인 후 바뀌지 않으므로 그대로 공유합니다.
+                String[] terms = entry.getValue().getTerms();
+                int[] frequencies = new int[terms.length];
+                for (int i = 0; i < terms.length; i++) {
+                    frequencies[i] = postings.get(terms[i]).get(postId);
+                }
+
+                postIds.add(postId);
+                termsByDocument.add(terms);
+                frequenciesByDocument.add(frequencies);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        out.writeInt(postIds.size());
+        for (int i = 0; i < postIds.size(); i++) {
+            String[] terms = termsByDocument.get(i);
+            int[] frequencies = frequenciesByDocument.get(i);
+
+            out.writeLong(postIds.get(i));
+            out.writeInt(terms.length);
+            for (int j = 0; j < terms.length; j++) {
+                out.writeUTF(terms[j]);
+                out.writeInt(frequencies[j]);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷에서 색인 내용을 읽어 현재 색인을 교체합니다.
+     * @param in 입력 스트림
+     */
+    public void readFrom(DataInput in) throws IOException {
+
+        // 파일을 끝까지 읽은 뒤에 교체하므로, 읽기 도중 실패하면 기존 색인이 그대로 유지됩니다.
+        int documentCount = in.readInt();
+        Map<Long, Map<String, Integer>> loaded = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long postId = in.readLong();
+            int termCount = in.readInt();
+            Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                frequencies.put(in.readUTF(), in.readInt());
+            }
+            loaded.put(postId, frequencies);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            loaded.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // === 내부 헬퍼 (모두 쓰기 락을 잡은 상태에서 호출) ===
+
+    private void addLocked(Long postId, Map<String, Integer> frequencies) {
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(postId, entry.getValue());
+            length += entry.getValue();
+        }
+
+        documents.put(postId, new IndexedDocument(length, frequencies.keySet().toArray(new String[0])));
+        totalLength += length;
+    }
+
+    private void removeLocked(Long postId) {
+        IndexedDocument document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.getTerms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.getLength();
+    }
+
+    // (점수, ID) 순서상 커서보다 뒤에 오는지 확인합니다.
+    private boolean isAfter(Hit hit, double afterScore, Long afterId) {
+        if (hit.getScore() != afterScore) {
+            return hit.getScore() < afterScore;
+        }
+        return afterId == null || hit.getPostId() < afterId;
+    }
+
+    /**
+     * 색인된 문서 정보 (가중 빈도 합계, 포함된 단어 목록)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedDocument {
+
+        private int length;
+        private String[] terms;
+    }
+
+    /**
+     * 검색 결과 한 건 (게시글 ID, BM25 점수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+
+        private Long postId;
+        private double score;
+    }
+}
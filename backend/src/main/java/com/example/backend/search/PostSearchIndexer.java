@@ -0,0 +1,234 @@
+package com.example.backend.search;
+
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.PostDeletedEvent;
+import com.example.backend.event.PostUpdatedEvent;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.repository.PostSearchSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색 인덱스(PostSearchIndex)의 구축과 유지를 담당합니다.
+ * - 시작 시 로컬 스냅샷 파일이 있으면 읽어 들이고, 스냅샷 이후 변경분만 DB에서 따라잡습니다.
+ *   스냅샷이 없거나 읽을 수 없으면 게시글을 ID 순서로 청크 단위 조회하여 처음부터 구축합니다.
+ * - 작성/수정/삭제가 커밋된 뒤 해당 게시글만 증분 색인합니다.
+ * - 주기적으로, 그리고 종료 시(@PreDestroy) 스냅샷을 저장합니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    // 스냅샷 파일 형식 버전 (토크나이저나 점수 체계가 바뀌면 올려서 기존 스냅샷을 무시하게 합니다)
+    // 2: 한글/한자/가나 unigram 색인 추가
+    private static final int SNAPSHOT_VERSION = 2;
+
+    // 스냅샷 직전에 수정됐지만 커밋 이벤트가 늦게 처리된 게시글을 놓치지 않도록 따라잡기 시작 시각을 앞당기는 여유
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    // 스냅샷 파일 경로
+    private final Path snapshotPath;
+
+    // 구축/따라잡기 시 한 번에 조회할 게시글 수
+    private final int chunkSize;
+
+    // 초기 구축(또는 스냅샷 적재)이 끝났는지 여부 (끝나기 전에는 스냅샷을 저장하지 않음)
+    private volatile boolean ready = false;
+
+    public PostSearchIndexer(
+            PostSearchIndex postSearchIndex,
+            PostRepository postRepository,
+            @Value("${app.search.snapshot-path:./data/post-search-index.bin}") String snapshotPath,
+            @Value("${app.search.chunk-size:500}") int chunkSize
+    ) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * 애플리케이션 시작 시(DataInitializer) 검색 인덱스를 준비합니다.
+     */
+    public void initialize() {
+
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        LocalDateTime snapshotAt = loadSnapshot();
+        if (snapshotAt != null) {
+            int caughtUp = catchUp(snapshotAt.minus(CATCH_UP_MARGIN));
+            log.info("스냅샷 적재 후 변경분 {}건 반영", caughtUp);
+        } else {
+            rebuild();
+            // 구축 도중 커밋된 변경이 오래된 내용으로 덮였을 수 있으므로 구축 시작 이후 변경분을 다시 반영합니다.
+            catchUp(startedAt.minus(CATCH_UP_MARGIN));
+        }
+
+        ready = true;
+    }
+
+    /**
+     * 색인을 비우고 모든 게시글을 청크 단위로 다시 색인합니다.
+     * @return 색인된 게시글 수
+     */
+    public int rebuild() {
+
+        postSearchIndex.clear();
+
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long lastId = 0;
+        int indexedCount = 0;
+
+        while (true) {
+            List<PostSearchSource> posts = postRepository.findSearchSourcesAfterId(lastId, chunk);
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            for (PostSearchSource post : posts) {
+                postSearchIndex.upsert(post.getId(), post.getTitle(), post.getContent());
+            }
+            indexedCount += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+
+        log.info("총 {}개의 게시글 색인 완료", indexedCount);
+
+        return indexedCount;
+    }
+
+    // since 이후 수정된 게시글은 다시 색인하고, 삭제된 게시글은 색인에서 제거합니다.
+    private int catchUp(LocalDateTime since) {
+
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long lastId = 0;
+        int changedCount = 0;
+
+        while (true) {
+            List<PostSearchSource> posts = postRepository.findSearchSourcesUpdatedSince(since, lastId, chunk);
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            for (PostSearchSource post : posts) {
+                postSearchIndex.upsert(post.getId(), post.getTitle(), post.getContent());
+            }
+            changedCount += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+
+        List<Long> deletedIds = postRepository.findIdsDeletedSinceNative(since);
+        deletedIds.forEach(postSearchIndex::remove);
+
+        return changedCount + deletedIds.size();
+    }
+
+    // === 증분 색인 (커밋 이후에만 반영) ===
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        postSearchIndex.upsert(event.getPostId(), event.getTitle(), event.getContent());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        postSearchIndex.upsert(event.getPostId(), event.getTitle(), event.getContent());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        postSearchIndex.remove(event.getPostId());
+    }
+
+    // === 스냅샷 ===
+
+    @Scheduled(
+            fixedDelayString = "${app.search.snapshot-interval-ms:600000}",
+            initialDelayString = "${app.search.snapshot-interval-ms:600000}"
+    )
+    public void saveSnapshot() {
+
+        if (!ready) {
+            return;
+        }
+
+        // 기록을 시작하기 전의 시각을 남겨 두어야, 기록 도중 반영된 변경도 다음 시작 시 따라잡기 대상이 됩니다.
+        LocalDateTime snapshotAt = LocalDateTime.now();
+
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+
+            // 임시 파일에 모두 기록한 뒤 교체하므로, 기록 도중 종료되어도 이전 스냅샷이 손상되지 않습니다.
+            Path tempFile = Files.createTempFile(parent, "post-search-index", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(snapshotAt.toString());
+                postSearchIndex.writeTo(out);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            log.warn("스냅샷 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("종료 전 검색 인덱스 스냅샷 저장");
+        saveSnapshot();
+    }
+
+    // 스냅샷을 읽어 색인에 적재하고 스냅샷 시각을 반환합니다. (없거나 읽을 수 없으면 null)
+    private LocalDateTime loadSnapshot() {
+
+        if (!Files.isRegularFile(snapshotPath)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.info("스냅샷 버전이 달라 전체 구축으로 대체");
+                return null;
+            }
+            LocalDateTime snapshotAt = LocalDateTime.parse(in.readUTF());
+            postSearchIndex.readFrom(in);
+
+            return snapshotAt;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("스냅샷 적재 실패, 전체 구축으로 대체", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 인덱스와 검색어에 공통으로 사용하는 토크나이저입니다.
+ * - 한글/한자/가나는 띄어쓰기와 조사에 영향을 덜 받도록 2글자 단위(bigram)로 자릅니다.
+ *   색인할 때는 한 글자 검색어("책")도 찾을 수 있도록 글자 하나하나(unigram)도 함께 넣고,
+ *   검색어는 두 글자 이상이면 bigram만, 한 글자면 그 글자만 사용합니다.
+ * - 영문/숫자는 소문자로 바꾼 단어 단위로 자릅니다.
+ * - 그 밖의 문자(공백, 문장 부호, 이모지 등)는 구분자로 취급합니다.
+ */
+public class SearchTokenizer {
+
+    // 인덱스에 넣을 단어의 최대 길이 (URL 등 비정상적으로 긴 단어로 인한 메모리 낭비 방지)
+    private static final int MAX_WORD_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트를 검색 토큰 목록으로 변환합니다. (중복 포함, 등장 순서 유지)
+     * @param text 제목 또는 본문
+     * @return 토큰 목록 (한글/한자/가나는 bigram + unigram)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 검색 토큰 목록으로 변환합니다. (중복 포함, 등장 순서 유지)
+     * @param query 검색어
+     * @return 토큰 목록 (한글/한자/가나는 bigram, 한 글자면 unigram)
+     */
+    public static List<String> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static List<String> tokenize(String text, boolean indexing) {
+
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean cjkRun = false;
+
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            boolean cjk = isCjk(codePoint);
+            boolean word = !cjk && Character.isLetterOrDigit(codePoint);
+
+            // 문자 종류가 바뀌거나 구분자를 만나면 지금까지 모은 구간을 토큰으로 만듭니다.
+            if ((!cjk && !word) || (run.length() > 0 && cjk != cjkRun)) {
+                flush(run, cjkRun, indexing, tokens);
+            }
+            if (cjk || word) {
+                run.appendCodePoint(cjk ? codePoint : Character.toLowerCase(codePoint));
+                cjkRun = cjk;
+            }
+        }
+        flush(run, cjkRun, indexing, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean cjkRun, boolean indexing, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        String value = run.toString();
+        run.setLength(0);
+
+        if (!cjkRun) {
+            if (value.length() <= MAX_WORD_LENGTH) {
+                tokens.add(value.toLowerCase(Locale.ROOT));
+            }
+            return;
+        }
+
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length == 1 || indexing) {
+            for (int codePoint : codePoints) {
+                tokens.add(Character.toString(codePoint));
+            }
+        }
+        for (int j = 0; j + 1 < codePoints.length; j++) {
+            tokens.add(new String(codePoints, j, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
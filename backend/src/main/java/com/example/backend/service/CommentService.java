@@ -1,26 +1,55 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CommentPageResponseDTO;
+import com.example.backend.dto.CommentPreviewDTO;
+import com.example.backend.dto.CommentResponseDTO;
+import com.example.backend.dto.CommentThreadResponseDTO;
 import com.example.backend.entity.Comment;
 import com.example.backend.entity.Post;
 import com.example.backend.entity.User;
+import com.example.backend.repository.CommentPreviewView;
 import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.CommentTimeView;
+import com.example.backend.repository.PostCounterView;
 import com.example.backend.repository.PostRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.util.CursorUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 커서 조회 페이지 크기 상한
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 댓글마다 함께 가져올 첫 답글 수 상한
+    private static final int MAX_REPLY_PREVIEW_SIZE = 10;
+
+    // 댓글 미리보기 일괄 조회의 게시글 수 / 게시글당 댓글 수 상한
+    private static final int MAX_PREVIEW_POST_COUNT = 100;
+    private static final int MAX_PREVIEW_SIZE = 10;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final TrendingScoreService trendingScoreService;
 
     // === 1. 댓글 생성 (Create) ===
     @Transactional
@@ -39,15 +68,235 @@ public class CommentService {
                 .author(author)
                 .post(post)
                 .build();
-        return commentRepository.save(newComment);
+        Comment savedComment = commentRepository.save(newComment);
+
+        // 3. posts 테이블의 comment_count만 1 증가 (updated_at 갱신 방지를 위해 벌크 쿼리 사용)
+        postRepository.incrementCommentCount(postId);
+
+        // 4. 커밋 이후 트렌딩 점수에 댓글 가중치 반영
+        trendingScoreService.recordComment(postId, savedComment.getCreatedAt(), 1);
+
+        return savedComment;
+    }
+
+    // === 1-1. 답글 생성 (Create) ===
+    /**
+     * 댓글에 답글을 작성합니다.
+     * @param postId 게시글 ID (부모 댓글이 이 게시글의 댓글이어야 합니다)
+     * @param parentId 부모 댓글 ID
+     * @param userId 작성자 ID
+     * @param content 답글 내용
+     * @return 저장된 답글
+     */
+    @Transactional
+    public Comment createReply(Long postId, Long parentId, Long userId, String content) {
+
+        // 1. 작성자, 게시글, 부모 댓글 존재 여부 검증 (삭제된 게시글/댓글에는 답글을 달 수 없음)
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("작성자(User ID: " + userId + ")를 찾을 수 없습니다."));
+
+        if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")을 찾을 수 없습니다.");
+        }
+
+        // 부모 댓글을 잠가, 동시에 진행 중인 부모 댓글 삭제와 직렬화합니다. (삭제가 먼저 커밋되면 404)
+        Comment parent = commentRepository.findByIdForUpdate(parentId)
+                .orElseThrow(() -> new EntityNotFoundException("댓글(Comment ID: " + parentId + ")을 찾을 수 없습니다."));
+
+        // post는 프록시의 ID만 사용하므로 추가 로딩 없음
+        if (!parent.getPost().getId().equals(postId)) {
+            throw new IllegalArgumentException("게시글(Post ID: " + postId + ")의 댓글이 아닙니다.");
+        }
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new IllegalArgumentException("답글은 " + Comment.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
+
+        // 2. 답글 저장 (게시글은 부모 댓글과 같은 게시글)
+        Comment reply = Comment.builder()
+                .content(content)
+                .author(author)
+                .post(parent.getPost())
+                .parent(parent)
+                .depth(parent.getDepth() + 1)
+                .build();
+        Comment savedReply = commentRepository.save(reply);
+
+        // 3. 부모 댓글의 reply_count와 posts 테이블의 comment_count를 1 증가 (벌크 쿼리)
+        commentRepository.incrementReplyCount(parentId);
+        postRepository.incrementCommentCount(postId);
+
+        // 4. 커밋 이후 트렌딩 점수에 댓글 가중치 반영
+        trendingScoreService.recordComment(postId, savedReply.getCreatedAt(), 1);
+
+        return savedReply;
     }
 
     // === 2. 게시글별 댓글 목록 조회 (Read) ===
-    public List<Comment> getCommentsByPost(Long postId) {
+    public List<CommentResponseDTO> getCommentsByPost(Long postId) {
         // PostRepository를 통해 Post의 존재 여부를 먼저 검증할 수도 있지만,
         // Repository에서 WHERE post_id = ? 쿼리를 직접 날려 성능 최적화를 합니다.
         // 이때 댓글이 없는 경우 빈 리스트를 반환합니다.
-        return commentRepository.findByPostId(postId);
+        // 삭제된 댓글은 @Where로 제외되고, 작성자는 같은 쿼리에서 JOIN으로 가져옵니다.
+        return commentRepository.findResponsesByPostId(postId);
+    }
+
+    // === 2-1. 게시글별 댓글 커서 조회 (Read) ===
+    /**
+     * 게시글의 최상위 댓글을 작성 순으로 (createdAt, id) 커서 기반 조회하고, 각 댓글의 첫 답글 몇 개를 함께 담습니다.
+     * 페이지 크기와 상관없이 카운터 1번, 댓글 1번, 답글 2번의 고정된 횟수로 조회합니다.
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param replySize 댓글마다 함께 가져올 첫 답글 수 (0이면 가져오지 않음)
+     * @return 최상위 댓글 목록, 다음 커서, 전체 댓글 수(posts.comment_count, 답글 포함)
+     */
+    public CommentPageResponseDTO<CommentThreadResponseDTO> getCommentsByCursor(Long postId, String cursor, int size, int replySize) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        int replyPreviewSize = Math.min(Math.max(replySize, 0), MAX_REPLY_PREVIEW_SIZE);
+
+        // 전체 댓글 수는 댓글을 세지 않고 비정규화된 comment_count를 읽습니다. (게시글이 없으면 404)
+        int totalCount = postRepository.findCountersById(postId)
+                .map(PostCounterView::getCommentCount)
+                .orElseThrow(() -> new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다."));
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 1개를 더 조회합니다.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentThreadResponseDTO> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstPageByPostId(postId, limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                comments = commentRepository.findNextPageByPostId(postId, LocalDateTime.parse(keys[0]), Long.valueOf(keys[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        attachFirstReplies(comments, replyPreviewSize);
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponseDTO last = comments.get(comments.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getCommentId());
+        }
+
+        return new CommentPageResponseDTO<>(comments, nextCursor, hasNext, totalCount);
+    }
+
+    // === 2-2. 댓글별 답글 커서 조회 (Read) ===
+    /**
+     * 댓글의 바로 아래 답글을 작성 순으로 커서 기반 조회합니다. (답글이 수만 개여도 페이지 크기만큼만 읽음)
+     * @param postId 게시글 ID
+     * @param parentId 부모 댓글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 답글 목록, 다음 커서, 전체 답글 수(comments.reply_count)
+     */
+    public CommentPageResponseDTO<CommentResponseDTO> getRepliesByCursor(Long postId, Long parentId, String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Comment parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new EntityNotFoundException("댓글(Comment ID: " + parentId + ")을 찾을 수 없습니다."));
+        if (!parent.getPost().getId().equals(postId)) {
+            throw new IllegalArgumentException("게시글(Post ID: " + postId + ")의 댓글이 아닙니다.");
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentResponseDTO> replies;
+        if (cursor == null || cursor.isBlank()) {
+            replies = commentRepository.findFirstReplyPage(parentId, limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                replies = commentRepository.findNextReplyPage(parentId, LocalDateTime.parse(keys[0]), Long.valueOf(keys[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+        }
+
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) {
+            replies = replies.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponseDTO last = replies.get(replies.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getCommentId());
+        }
+
+        return new CommentPageResponseDTO<>(replies, nextCursor, hasNext, parent.getReplyCount());
+    }
+
+    // === 2-3. 여러 게시글의 최신 댓글 미리보기 (Read) ===
+    /**
+     * 게시글 목록 카드에 보여줄 최신 최상위 댓글을 게시글마다 size개까지 한 번의 쿼리로 조회합니다.
+     * @param postIds 게시글 ID 목록 (중복은 한 번만 응답)
+     * @param size 게시글당 댓글 수
+     * @return 요청 순서대로의 게시글별 미리보기 (댓글이 없거나 없는 게시글이면 빈 목록)
+     */
+    public List<CommentPreviewDTO> getCommentPreviews(List<Long> postIds, int size) {
+
+        // 요청 순서를 유지하면서 중복 제거
+        Set<Long> uniqueIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (uniqueIds.size() > MAX_PREVIEW_POST_COUNT) {
+            throw new IllegalArgumentException("댓글 미리보기는 한 번에 " + MAX_PREVIEW_POST_COUNT + "개 게시글까지 조회할 수 있습니다.");
+        }
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
+
+        int previewSize = Math.min(Math.max(size, 1), MAX_PREVIEW_SIZE);
+
+        Map<Long, List<CommentResponseDTO>> commentsByPost = commentRepository.findLatestPreviewsByPostIds(uniqueIds, previewSize).stream()
+                .collect(Collectors.groupingBy(
+                        CommentPreviewView::getPostId,
+                        Collectors.mapping(view -> new CommentResponseDTO(
+                                view.getCommentId(), view.getContent(), view.getAuthorId(), view.getAuthorName(),
+                                view.getCreatedAt(), null, 0, view.getReplyCount()
+                        ), Collectors.toList())
+                ));
+
+        return uniqueIds.stream()
+                .map(postId -> new CommentPreviewDTO(postId, commentsByPost.getOrDefault(postId, List.of())))
+                .toList();
+    }
+
+    // 댓글마다 첫 답글을 replySize개까지 붙입니다. (답글 ID 조회 1번 + 답글 DTO 조회 1번)
+    private void attachFirstReplies(List<CommentThreadResponseDTO> comments, int replySize) {
+
+        List<Long> parentIds = comments.stream()
+                .filter(comment -> comment.getReplyCount() > 0)
+                .map(CommentResponseDTO::getCommentId)
+                .toList();
+        if (replySize == 0 || parentIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, replySize);
+        if (replyIds.isEmpty()) {
+            return;
+        }
+
+        // 작성 순으로 정렬된 결과를 부모별로 나눕니다.
+        Map<Long, List<CommentResponseDTO>> repliesByParent = commentRepository.findResponsesByIds(replyIds).stream()
+                .collect(Collectors.groupingBy(CommentResponseDTO::getParentId));
+
+        comments.forEach(comment ->
+                comment.attachReplies(repliesByParent.getOrDefault(comment.getCommentId(), List.of())));
     }
 
     // === 3. 댓글 수정 (Update) ===
@@ -71,9 +320,21 @@ public class CommentService {
     }
 
     // === 4. 댓글 소프트 삭제 (Delete) ===
+    /**
+     * 댓글을 소프트 삭제합니다. 답글이 달려 있으면 아래 답글도 모두 함께 삭제하여, 보이지 않는 답글이 댓글 수에 남지 않도록 합니다.
+     * @param commentId 삭제할 댓글 ID
+     * @param userId 요청한 사용자 ID (댓글 작성자여야 합니다)
+     */
     @Transactional
     public void deleteSoftComment(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
+
+        // 답글 작성과 같은 순서(부모 댓글 행 → 댓글 행 → 게시글 행)로 잠급니다.
+        // 답글이면 부모 댓글을 먼저 잠가, 같은 부모에 답글을 다는 요청과 교착 상태가 생기지 않도록 합니다. (부모 ID는 바뀌지 않음)
+        Long parentId = commentRepository.findParentIdById(commentId);
+        if (parentId != null) {
+            commentRepository.findByIdForUpdate(parentId);
+        }
+        Comment comment = commentRepository.findByIdForUpdate(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글(Comment ID: " + commentId + ")을 찾을 수 없습니다."));
 
         // 1. 권한 검사
@@ -81,8 +342,35 @@ public class CommentService {
             throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 2. 소프트 삭제 처리 (DB에서 실제 데이터 삭제는 안 함)
+        Long postId = comment.getPost().getId();
+
+        // 2. 아래 답글을 깊이마다 잠그며 모은 뒤 함께 소프트 삭제 (깊이는 MAX_DEPTH로 제한됨)
+        List<CommentTimeView> replies = new ArrayList<>();
+        List<Long> parentIds = List.of(commentId);
+        while (!parentIds.isEmpty()) {
+            List<CommentTimeView> children = commentRepository.findLiveRepliesForUpdate(parentIds);
+            replies.addAll(children);
+            parentIds = children.stream().map(CommentTimeView::getId).toList();
+        }
+        int deletedReplyCount = replies.isEmpty()
+                ? 0
+                : commentRepository.softDeleteByIds(replies.stream().map(CommentTimeView::getId).toList());
+
+        // 3. 소프트 삭제 처리 (DB에서 실제 데이터 삭제는 안 함)
         comment.markAsDeleted(); // BaseTime 엔티티에 정의된 메서드 호출
+
+        // 4. 답글이면 부모 댓글의 reply_count를 1 감소 (이미 잠근 부모 댓글 행이므로 게시글 행보다 먼저 갱신)
+        // 함께 삭제된 답글들의 부모는 모두 삭제되므로 reply_count를 고치지 않습니다.
+        if (parentId != null) {
+            commentRepository.decrementReplyCount(parentId);
+        }
+
+        // 5. posts 테이블의 comment_count를 삭제된 댓글 수만큼 감소 (post는 프록시의 ID만 사용하므로 추가 로딩 없음)
+        postRepository.subtractCommentCount(postId, 1 + deletedReplyCount);
+
+        // 6. 커밋 이후 트렌딩 점수에서 각 댓글 작성 시 더한 가중치만큼 차감
+        trendingScoreService.recordComment(postId, comment.getCreatedAt(), -1);
+        replies.forEach(reply -> trendingScoreService.recordComment(postId, reply.getCreatedAt(), -1));
     }
 
     // === ⭐️ Spring Security SpEL에서 호출할 게시글 소유자 확인 메서드 ===
@@ -0,0 +1,124 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.GoogleJwksCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰 엔드포인트가 돌려준 Google id_token을 로컬에서 검증합니다.
+ * - 헤더의 kid로 GoogleJwksCache에서 공개 키를 찾아 RS256 서명을 검증하고, 발급자(iss)/대상(aud)/만료(exp)를 확인합니다.
+ * - 검증된 클레임에 email, name, sub(사용자 고유 ID)가 있으므로 userinfo API를 따로 호출하지 않습니다.
+ * - email은 사용자의 프로필 이메일로 저장되어 화면에 노출되므로, Google이 소유를 확인한 이메일(email_verified=true)만 허용합니다.
+ *   (사용자 식별은 email이 아니라 (sns_provider, sns_id)로 합니다)
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private final GoogleJwksCache googleJwksCache;
+    private final ObjectMapper objectMapper;
+
+    // id_token의 aud는 우리 앱의 client-id여야 합니다.
+    private final String clientId;
+
+    // 허용하는 발급자 목록
+    private final Set<String> issuers;
+
+    // 서버 간 시계 차이 허용 범위 (초)
+    private final long allowedClockSkewSeconds;
+
+    public GoogleIdTokenVerifier(
+            GoogleJwksCache googleJwksCache,
+            ObjectMapper objectMapper,
+            @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+            @Value("${app.oauth.google.issuers:https://accounts.google.com,accounts.google.com}") String issuers,
+            @Value("${app.oauth.google.allowed-clock-skew-seconds:60}") long allowedClockSkewSeconds
+    ) {
+        this.googleJwksCache = googleJwksCache;
+        this.objectMapper = objectMapper;
+        this.clientId = clientId;
+        this.issuers = Arrays.stream(issuers.split(","))
+                .map(String::trim)
+                .filter(issuer -> !issuer.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.allowedClockSkewSeconds = Math.max(allowedClockSkewSeconds, 0);
+    }
+
+    /**
+     * id_token의 서명과 클레임을 검증합니다.
+     * @param idToken 토큰 엔드포인트 응답의 id_token
+     * @return 검증된 클레임 (서명 키를 찾지 못하거나 검증에 실패하면 오류)
+     */
+    public Mono<Claims> verify(String idToken) {
+
+        String kid;
+        try {
+            kid = readKid(idToken);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return googleJwksCache.getKey(kid)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("id_token 서명 키(kid: " + kid + ")를 찾을 수 없습니다.")))
+                .map(key -> parseClaims(idToken, key));
+    }
+
+    private Claims parseClaims(String idToken, PublicKey key) {
+
+        // 서명/만료/aud 검증 (실패 시 JwtException)
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(allowedClockSkewSeconds)
+                .build()
+                .parseClaimsJws(idToken)
+                .getBody();
+
+        if (!issuers.contains(claims.getIssuer())) {
+            throw new IllegalArgumentException("허용되지 않은 id_token 발급자입니다: " + claims.getIssuer());
+        }
+        if (claims.getSubject() == null) {
+            throw new IllegalArgumentException("id_token에 sub가 없습니다.");
+        }
+        // 일부 발급 경로는 문자열 "true"로 내려줍니다.
+        Object emailVerified = claims.get("email_verified");
+        if (!Boolean.TRUE.equals(emailVerified) && !"true".equals(emailVerified)) {
+            throw new IllegalArgumentException("이메일이 인증되지 않은 Google 계정입니다.");
+        }
+        return claims;
+    }
+
+    // 서명 검증 전에 어떤 키로 검증할지 알아야 하므로 헤더만 먼저 읽습니다. (RS256만 허용)
+    private String readKid(String idToken) {
+
+        int headerEnd = idToken.indexOf('.');
+        if (headerEnd <= 0) {
+            throw new IllegalArgumentException("잘못된 id_token 형식입니다.");
+        }
+
+        try {
+            JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(idToken.substring(0, headerEnd)));
+            if (!"RS256".equals(header.path("alg").asText())) {
+                throw new IllegalArgumentException("지원하지 않는 id_token 서명 알고리즘입니다: " + header.path("alg").asText());
+            }
+            String kid = header.path("kid").asText(null);
+            if (kid == null) {
+                throw new IllegalArgumentException("id_token 헤더에 kid가 없습니다.");
+            }
+            return kid;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 id_token 헤더입니다.", e);
+        }
+    }
+}
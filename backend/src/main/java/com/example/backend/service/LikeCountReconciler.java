@@ -0,0 +1,191 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.LikeCountDriftView;
+import com.example.backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * posts.like_count를 likes 테이블 기준으로 주기적으로 맞추는 보정 작업
+ * - 게시글 ID 범위(청크) 단위로 GROUP BY 한 번에 실제 좋아요 수를 계산하고, 어긋난 게시글만 UPDATE ... CASE 한 번으로 바로잡습니다.
+ * - 청크마다 짧은 트랜잭션으로 커밋하고 청크 사이에 쉬어 가므로(pause-ms) 요청 처리와 DB를 오래 다투지 않습니다.
+ *   기본 실행 시각(cron)도 사용량이 적은 새벽입니다.
+ * - 이 작업이 어긋남을 주기적으로 바로잡으므로, 조회 경로는 likes를 세지 않고 like_count를 그대로 사용합니다.
+ * - 청크 사이 대기가 다른 @Scheduled 작업이 쓰는 공용 스케줄러 스레드를 붙잡지 않도록, 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class LikeCountReconciler {
+
+    // 청크 크기 상한 (한 번의 GROUP BY / UPDATE가 너무 많은 행을 읽거나 잠그지 않도록 제한)
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final PostRepository postRepository;
+
+    private final boolean enabled;
+
+    // 한 번에 확인할 게시글 ID 범위 크기
+    private final int chunkSize;
+
+    // 청크 사이에 쉬는 시간 (DB 부하 조절)
+    private final long pauseMillis;
+
+    // 동시에 두 번 실행되지 않도록 막습니다. (스케줄 실행과 관리자 API 실행이 겹치는 경우)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 마지막 실행 결과 (관리자 API에서 조회)
+    private volatile Map<String, Object> lastRunStats = Map.of();
+
+    // 보정 작업 전용 스레드 (애플리케이션 종료를 막지 않도록 데몬 스레드)
+    private final ExecutorService reconcileExecutor;
+
+    public LikeCountReconciler(
+            PostRepository postRepository,
+            @Value("${app.like.reconcile.enabled:true}") boolean enabled,
+            @Value("${app.like.reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${app.like.reconcile.pause-ms:100}") long pauseMillis
+    ) {
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.chunkSize = Math.min(Math.max(chunkSize, 1), MAX_CHUNK_SIZE);
+        this.pauseMillis = Math.max(pauseMillis, 0);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("like-reconcile-");
+        threadFactory.setDaemon(true);
+        this.reconcileExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    // 스케줄러 스레드는 작업을 넘기기만 하고 바로 반환합니다.
+    @Scheduled(cron = "${app.like.reconcile.cron:0 0 5 * * *}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 보정 작업을 전용 스레드에서 시작하고 기다리지 않고 반환합니다. (결과는 getLastRunStats로 조회)
+     * @return 시작했으면 true, 이미 실행 중이거나 종료 중이면 false
+     */
+    public boolean start() {
+
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            reconcileExecutor.execute(this::runReconcile);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 청크마다 커밋되므로 중단해도 다음 실행에서 이어서 확인합니다. (대기 중인 sleep을 깨웁니다)
+        reconcileExecutor.shutdownNow();
+    }
+
+    // running을 true로 바꾼 호출 측에서만 실행하며, 끝나면(실패 포함) running을 false로 되돌립니다.
+    private void runReconcile() {
+        try {
+            reconcileAndRecord();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 보정을 실행하고, 중단되거나 실패해도 결과를 lastRunStats에 남깁니다.
+    private void reconcileAndRecord() {
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long maxId = 0;
+
+        int driftedPosts = 0;
+        int correctedPosts = 0;
+        long totalAbsoluteDrift = 0;
+        long maxAbsoluteDrift = 0;
+
+        // 실행 결과: completed, interrupted, failed
+        String status = "completed";
+        String error = null;
+
+        try {
+            maxId = postRepository.findMaxIdNative();
+
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                long toId = Math.min(fromId + chunkSize - 1, maxId);
+
+                List<LikeCountDriftView> drifts = postRepository.findLikeCountDriftsInRange(fromId, toId);
+                if (!drifts.isEmpty()) {
+                    for (LikeCountDriftView drift : drifts) {
+                        long absoluteDrift = Math.abs(drift.getActualCount() - (drift.getStoredCount() + drift.getPendingDelta()));
+                        totalAbsoluteDrift += absoluteDrift;
+                        maxAbsoluteDrift = Math.max(maxAbsoluteDrift, absoluteDrift);
+                    }
+                    driftedPosts += drifts.size();
+                    correctedPosts += postRepository.bulkCorrectLikeCounts(drifts);
+                }
+
+                if (pauseMillis > 0 && toId < maxId) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = "interrupted";
+            log.warn("좋아요 수 보정 작업 중단 (다음 실행에서 다시 확인)");
+        } catch (RuntimeException e) {
+            // 이미 커밋된 청크는 그대로 두고, 나머지는 다음 실행에서 다시 확인합니다.
+            status = "failed";
+            error = e.getMessage();
+            log.error("좋아요 수 보정 작업 실패 (다음 실행에서 다시 확인)", e);
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("status", status);
+        if (error != null) {
+            stats.put("error", error);
+        }
+        stats.put("startedAt", startedAt.toString());
+        stats.put("finishedAt", finishedAt.toString());
+        stats.put("durationMs", Duration.between(startedAt, finishedAt).toMillis());
+        stats.put("scannedMaxId", maxId);
+        stats.put("driftedPosts", driftedPosts);
+        stats.put("correctedPosts", correctedPosts);
+        // 조회 이후 좋아요가 바뀌어 이번에 건너뛴 게시글 (다음 실행에서 다시 확인)
+        stats.put("skippedPosts", driftedPosts - correctedPosts);
+        stats.put("totalAbsoluteDrift", totalAbsoluteDrift);
+        stats.put("maxAbsoluteDrift", maxAbsoluteDrift);
+        lastRunStats = stats;
+
+        log.info("총 {}개의 게시글에서 좋아요 수 어긋남 발견, {}개 보정 완료 ({})", driftedPosts, correctedPosts, status);
+    }
+
+    /**
+     * 마지막 보정 작업의 결과를 반환합니다. (관리자 API에서 사용)
+     * @return 어긋난 게시글 수, 보정된 게시글 수, 어긋남 크기 등
+     */
+    public Map<String, Object> getLastRunStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(lastRunStats);
+        stats.put("running", running.get());
+        return stats;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 좋아요 기록(likes)과 게시글 좋아요 수를 함께 변경하는 전략
+ * - single-row (기본): posts.like_count 한 행을 직접 증감합니다. (SingleRowLikeCounter)
+ * - sharded: (post_id, shard) 분산 카운터에 기록하고 주기적으로 posts.like_count에 합칩니다. (ShardedLikeCounter)
+ * app.like.counter.mode 속성으로 배포 환경마다 선택합니다.
+ * 모든 메서드는 호출 측 트랜잭션 안에서 실행되어야 합니다.
+ */
+public interface LikeCounter {
+
+    /**
+     * 좋아요를 추가합니다. 이미 좋아요 상태이면 아무것도 바꾸지 않습니다.
+     * @throws jakarta.persistence.EntityNotFoundException 게시글이 없거나 삭제된 경우
+     */
+    LikeCountChange addLike(Long postId, Long userId);
+
+    /**
+     * 좋아요를 취소합니다. 좋아요 상태가 아니면 아무것도 바꾸지 않습니다.
+     * @throws jakarta.persistence.EntityNotFoundException 게시글이 없거나 삭제된 경우
+     */
+    LikeCountChange removeLike(Long postId, Long userId);
+
+    /**
+     * 게시글의 최신 좋아요 수를 조회합니다.
+     * @return 좋아요 수 (게시글이 없거나 삭제되었으면 null)
+     */
+    Integer getLikeCount(Long postId);
+
+    /**
+     * 여러 게시글의 좋아요 수를 한 번에 조회합니다.
+     * @return 게시글 ID → 좋아요 수 (없거나 삭제된 게시글은 제외)
+     */
+    Map<Long, Integer> getLikeCounts(Collection<Long> postIds);
+
+    /**
+     * 좋아요 추가/취소 결과 (실제로 변경되었는지 여부, 최신 좋아요 수, 추가/취소된 좋아요 기록의 작성 시각)
+     */
+    @Getter
+    @AllArgsConstructor
+    class LikeCountChange {
+
+        private boolean changed;
+        private int likeCount;
+
+        // 변경되지 않았으면 null (트렌딩 점수에서 취소된 좋아요가 처음 더한 만큼만 빠지도록 사용)
+        private LocalDateTime likedAt;
+    }
+}
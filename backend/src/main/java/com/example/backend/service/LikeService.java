@@ -1,147 +1,174 @@
 package com.example.backend.service;
 
+import com.example.backend.cache.LikedPostSetCache;
 import com.example.backend.dto.LikeResponseDTO;
-import com.example.backend.entity.Like;
-import com.example.backend.entity.Post;
-import com.example.backend.entity.User;
-import com.example.backend.exception.AlreadyLikeException;
-import com.example.backend.repository.LikeRepository;
-import com.example.backend.repository.PostRepository;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.dto.LikeStatusDTO;
+import com.example.backend.event.PostLikeChangedEvent;
+import com.example.backend.event.PostLikeToggledEvent;
+import com.example.backend.service.LikeCounter.LikeCountChange;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LikeService {
 
-    private final PostRepository postRepository;
-    private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrendingScoreService trendingScoreService;
+    private final LikeWriteBatcher likeWriteBatcher;
+    private final LikeCounter likeCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final LikedPostSetCache likedPostSetCache;
 
-    @Transactional(readOnly = true)
+    // 좋아요 여부 캐시가 DB에서 적재될 때 최신 스냅샷을 읽도록 트랜잭션 없이 실행합니다. (조회마다 각자의 읽기 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LikeResponseDTO getLikeStatus(Long postId, Long userId) {
 
         System.out.println("LikeService - getLikeStatus 진입");
 
-        // 게시글 존재 확인 (404 Not Found 예외 처리)
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다."));
-
-        // 좋아요 수 가져오기 (Post.likeCount 필드를 읽지 않고 Like 테이블에서 직접 계산)
-        long calculatedLikeCount = likeRepository.countByPost_id(postId);
+        // 좋아요 수 가져오기 (게시글을 로딩하지 않고 like_count를 그대로 사용, 어긋남은 LikeCountReconciler가 보정)
+        // 게시글이 없거나 삭제되었으면 null (404 Not Found 예외 처리)
+        Integer likeCount = likeCounter.getLikeCount(postId);
+        if (likeCount == null) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
 
         // 현재 사용자가 좋아요 눌렀나 확인하기
-        boolean isLiked = userId != null && likeRepository.existsByPost_IdAndUser_Id(postId, userId);
+        boolean isLiked = userId != null && likedPostSetCache.isLiked(userId, postId);
 
         // 두 데이터로 dto 만들어서 반환하기
         return LikeResponseDTO.builder()
-                .likeCount((int) calculatedLikeCount)
+                .likeCount(likeCount)
                 .isLiked(isLiked)
                 .build();
     }
 
-    @Transactional
-    public LikeResponseDTO addLike(Long postId, Long userId) {
-
-        System.out.println("LikeService - addLike 진입");
-
-        // 1. 게시글 존재 확인 (404 Not Found 예외 처리)
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다."));
-
-        // 2. 사용자 엔티티 조회 (Like 엔티티 생성을 위해 필요)
-        // 실제로는 User 엔티티를 직접 사용하는 대신 DTO나 ID만 사용할 수도 있습니다.
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자(User ID: " + userId + ")를 찾을 수 없습니다."));
+    /**
+     * 여러 게시글의 좋아요 수와 현재 사용자의 좋아요 여부를 한 번에 조회합니다.
+     * 게시글을 하나씩 로딩하지 않고, 좋아요 수는 posts.like_count를, 좋아요 여부는 IN 쿼리 한 번으로 가져옵니다.
+     * @param postIds 게시글 ID 목록 (중복은 한 번만 응답)
+     * @param userId 사용자 ID
+     * @return 요청 순서대로의 좋아요 상태 목록 (없거나 삭제된 게시글은 제외)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LikeStatusDTO> getLikeStatuses(List<Long> postIds, Long userId) {
+
+        // 요청 순서를 유지하면서 중복 제거
+        Set<Long> uniqueIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 3. 중복 좋아요 확인 및 처리
-        if (likeRepository.existsByPost_IdAndUser_Id(postId, userId)) {
-            // 이미 좋아요를 눌렀다면, 이미 좋아요가 되어있다는 예외를 던집니다.
-            throw new AlreadyLikeException("사용자(User ID: " + userId + ")는 이미 이 게시글에 좋아요를 눌렀습니다.");
+        // 좋아요 수 (IN 쿼리 한 번)
+        Map<Long, Integer> likeCounts = likeCounter.getLikeCounts(uniqueIds);
+        if (likeCounts.isEmpty()) {
+            return List.of();
         }
 
-        // -- 좋아요 처리 --
+        // 현재 사용자가 좋아요를 누른 게시글 (사용자별 캐시, 없으면 한 번 적재)
+        Set<Long> likedPostIds = userId == null
+                ? Set.of()
+                : likedPostSetCache.filterLiked(userId, likeCounts.keySet());
 
-        // 4. 좋아요 테이블에 값 넣기 (postid, userid)
-        likeRepository.save(
-                Like.builder()
-                        .post(post)
-                        .user(user)
-                        .build()
-        );
+        return uniqueIds.stream()
+                .filter(likeCounts::containsKey)
+                .map(postId -> new LikeStatusDTO(postId, likeCounts.get(postId), likedPostIds.contains(postId)))
+                .toList();
+    }
 
-        // 5. posts 테이블의 like_count만 1 증가
-        // updated_at 갱신 방지를 위해 Native Query를 호출합니다.
-        Integer latestLikeCount = this.updateLikeCountIncrement(postId);
+    /**
+     * 좋아요를 누릅니다. 이미 좋아요 상태이면 아무것도 바꾸지 않고 현재 상태를 반환합니다. (멱등)
+     * group commit 모드(app.like.group-commit.enabled)이면 같은 게시글의 요청과 묶어서 처리합니다.
+     * 묶음을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 이 메서드는 트랜잭션 없이 실행됩니다.
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 최신 좋아요 수와 좋아요 여부
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LikeResponseDTO addLike(Long postId, Long userId) {
 
-        // 6. DTO 반환
-        return LikeResponseDTO.builder()
-                .likeCount(latestLikeCount)
-                .isLiked(true)
-                .build();
+        System.out.println("LikeService - addLike 진입");
+
+        if (likeWriteBatcher.isEnabled()) {
+            return likeWriteBatcher.submit(postId, userId, true);
+        }
+        try {
+            return transactionTemplate.execute(status -> addLikeDirectly(postId, userId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 먼저 좋아요를 추가해 유니크 제약에 걸린 경우, 새 트랜잭션에서 한 번 더 시도하면 이미 좋아요 상태로 처리됩니다.
+            return transactionTemplate.execute(status -> addLikeDirectly(postId, userId));
+        }
     }
 
-    @Transactional
+    /**
+     * 좋아요를 취소합니다. 좋아요 상태가 아니면 아무것도 바꾸지 않고 현재 상태를 반환합니다. (멱등)
+     * group commit 모드이면 같은 게시글의 요청과 묶어서 처리합니다.
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 최신 좋아요 수와 좋아요 여부
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LikeResponseDTO removeLike(Long postId, Long userId) {
 
-        System.out.println("LikeService - removeLike 진입");
+        if (likeWriteBatcher.isEnabled()) {
+            return likeWriteBatcher.submit(postId, userId, false);
+        }
+        return transactionTemplate.execute(status -> removeLikeDirectly(postId, userId));
+    }
 
-        // 1. 게시글 존재 확인 (404 Not Found 예외 처리)
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다."));
+    // 단건 좋아요 (좋아요 기록과 카운터 변경은 app.like.counter.mode에 따른 LikeCounter가 담당)
+    private LikeResponseDTO addLikeDirectly(Long postId, Long userId) {
 
-        // 2. 좋아요 기록 확인 및 삭제
-        Like like = likeRepository.findByPost_IdAndUser_Id(postId, userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 게시글에 대한 좋아요 기록(Post ID: " + postId + ", User ID: " + userId + ")을 찾을 수 없습니다."));
+        LikeCountChange change = likeCounter.addLike(postId, userId);
 
-        likeRepository.delete(like);
+        if (change.isChanged()) {
+            // 커밋 이후 트렌딩 점수에 좋아요 가중치 반영
+            trendingScoreService.recordLike(postId, change.getLikedAt(), 1);
 
-        // 3. posts 테이블의 like_count만 1 감소
-        // updated_at 갱신 방지를 위해 Native Query를 호출합니다.
-        Integer latestLikeCount = this.updateLikeCountDecrement(postId);
+            // 커밋 이후 인기 게시글 리더보드와 사용자별 좋아요 캐시가 갱신되도록 이벤트를 발행합니다.
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, change.getLikeCount()));
+            eventPublisher.publishEvent(new PostLikeToggledEvent(postId, userId, true));
+        }
 
-        // 4. DTO 반환
         return LikeResponseDTO.builder()
-                .likeCount(latestLikeCount)
-                .isLiked(false)
+                .likeCount(change.getLikeCount())
+                .isLiked(true)
                 .build();
     }
 
-    /**
-     * Post의 like_count를 1 증가시키는 전용 메서드.
-     * REQUIRES_NEW 트랜잭션을 사용하여 부모 트랜잭션의 JPA 캐시 영향을 받지 않고,
-     * PostRepository의 Native Query를 실행하여 updated_at 갱신을 방지하고 최신 카운트를 가져옵니다.
-     * @param postId 게시글 ID
-     * @return 갱신된 최신 좋아요 수
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Integer updateLikeCountIncrement(Long postId) {
-
-        System.out.println("LikeService - updateLikeCountIncrement 진입");
+    // 단건 좋아요 취소
+    private LikeResponseDTO removeLikeDirectly(Long postId, Long userId) {
 
-        postRepository.incrementLikeCount(postId);
-        // Native Query로 DB에서 최신 카운트만 가져와 반환
-        return postRepository.findLikeCountByIdNative(postId);
-    }
+        LikeCountChange change = likeCounter.removeLike(postId, userId);
 
-    /**
-     * Post의 like_count를 1 감소시키는 전용 메서드.
-     * REQUIRES_NEW 트랜잭션을 사용하여 updated_at 갱신을 방지하고 최신 카운트를 가져옵니다.
-     * @param postId 게시글 ID
-     * @return 갱신된 최신 좋아요 수
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Integer updateLikeCountDecrement(Long postId) {
+        if (change.isChanged()) {
+            // 커밋 이후 트렌딩 점수에서 그 좋아요를 눌렀을 때 더한 가중치만큼 차감
+            trendingScoreService.recordLike(postId, change.getLikedAt(), -1);
 
-        System.out.println("LikeService - updateLikeCountDecrement 진입");
+            // 커밋 이후 인기 게시글 리더보드와 사용자별 좋아요 캐시가 갱신되도록 이벤트를 발행합니다.
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, change.getLikeCount()));
+            eventPublisher.publishEvent(new PostLikeToggledEvent(postId, userId, false));
+        }
 
-        postRepository.decrementLikeCount(postId);
-        // Native Query로 DB에서 최신 카운트만 가져와 반환
-        return postRepository.findLikeCountByIdNative(postId);
+        return LikeResponseDTO.builder()
+                .likeCount(change.getLikeCount())
+                .isLiked(false)
+                .build();
     }
 }
@@ -0,0 +1,387 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.LikeResponseDTO;
+import com.example.backend.event.PostLikeChangedEvent;
+import com.example.backend.event.PostLikeToggledEvent;
+import com.example.backend.repository.LikeRepository;
+import com.example.backend.repository.LikeTimeView;
+import com.example.backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 게시글의 좋아요/취소 요청을 묶어서 처리하는 group commit 배처 (app.like.group-commit.enabled)
+ * - 같은 게시글에 대한 요청이 짧은 시간(window-ms) 안에 들어오면 하나의 트랜잭션으로 모아,
+ *   likes INSERT/DELETE를 한 번씩 실행하고 like_count에는 순증감만 한 번 반영합니다.
+ * - 게시글 행 락을 요청마다가 아니라 묶음마다 한 번만 잡으므로, 요청이 몰린 게시글에서 락 대기 시간이 줄어듭니다.
+ * - 요청 스레드는 자신의 결과(Future)가 완료될 때까지 최대 result-timeout-ms 동안 기다리며, 묶음이 max-batch-size에 도달하면 마지막 요청 스레드가 바로 처리합니다.
+ * - 처리 스레드 풀은 활성화된 경우에만 데몬 스레드로 만들고, 종료가 시작된 뒤의 요청은 묶지 않고 요청 스레드에서 바로 처리합니다.
+ */
+@Slf4j
+@Component
+public class LikeWriteBatcher {
+
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final TrendingScoreService trendingScoreService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    // 첫 요청이 들어온 뒤 묶음을 처리하기까지 기다리는 시간
+    private final long windowMillis;
+
+    // 한 묶음에 담을 수 있는 최대 요청 수 (도달하면 기다리지 않고 바로 처리)
+    private final int maxBatchSize;
+
+    // 요청 스레드가 묶음 처리 결과를 기다리는 최대 시간
+    private final long resultTimeoutMillis;
+
+    // 종료 시 처리 스레드가 끝나기를 기다리는 최대 시간
+    private final long shutdownTimeoutMillis;
+
+    // 게시글 ID → 아직 처리되지 않은 묶음
+    private final ConcurrentHashMap<Long, PendingBatch> openBatches = new ConcurrentHashMap<>();
+
+    // window가 지난 묶음을 처리하는 스레드 (비활성화 상태면 null)
+    private final ScheduledExecutorService flushScheduler;
+
+    // 종료가 시작되었는지 여부 (이후 요청은 묶지 않음)
+    private volatile boolean shuttingDown = false;
+
+    // 묶음 효과(coalescing ratio) 측정용
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong rowChangeCount = new AtomicLong();
+    private final AtomicLong failedBatchCount = new AtomicLong();
+
+    public LikeWriteBatcher(
+            PostRepository postRepository,
+            LikeRepository likeRepository,
+            TrendingScoreService trendingScoreService,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.like.group-commit.enabled:false}") boolean enabled,
+            @Value("${app.like.group-commit.window-ms:5}") long windowMillis,
+            @Value("${app.like.group-commit.max-batch-size:128}") int maxBatchSize,
+            @Value("${app.like.group-commit.flush-threads:4}") int flushThreads,
+            @Value("${app.like.group-commit.result-timeout-ms:5000}") long resultTimeoutMillis,
+            @Value("${app.like.group-commit.shutdown-timeout-ms:5000}") long shutdownTimeoutMillis
+    ) {
+        this.postRepository = postRepository;
+        this.likeRepository = likeRepository;
+        this.trendingScoreService = trendingScoreService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.windowMillis = Math.max(windowMillis, 1);
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.resultTimeoutMillis = Math.max(resultTimeoutMillis, 1);
+        this.shutdownTimeoutMillis = Math.max(shutdownTimeoutMillis, 0);
+        this.flushScheduler = enabled ? createFlushScheduler(flushThreads) : null;
+    }
+
+    // 처리 스레드가 애플리케이션 종료를 막지 않도록 데몬 스레드로 만듭니다.
+    private static ScheduledExecutorService createFlushScheduler(int flushThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("like-batch-");
+        threadFactory.setDaemon(true);
+        return Executors.newScheduledThreadPool(Math.max(flushThreads, 1), threadFactory);
+    }
+
+    /**
+     * 요청을 묶어서 처리할지 여부 (비활성화되어 있거나 종료가 시작되었으면 false → 호출 측이 바로 처리)
+     */
+    public boolean isEnabled() {
+        return enabled && !shuttingDown;
+    }
+
+    /**
+     * 좋아요/취소 요청을 묶음에 넣고, 묶음이 처리될 때까지 기다립니다.
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @param like 좋아요면 true, 취소면 false
+     * @return 묶음 처리 후의 좋아요 수와 이 요청의 좋아요 여부
+     */
+    public LikeResponseDTO submit(Long postId, Long userId, boolean like) {
+
+        requestCount.incrementAndGet();
+        LikeRequest request = new LikeRequest(userId, like, new CompletableFuture<>());
+
+        PendingBatch fullBatch = null;
+        while (true) {
+            // 처리 스레드에 예약하지 못한 묶음 (종료와 겹친 경우, 이 요청 스레드가 직접 처리)
+            PendingBatch unscheduled = null;
+
+            PendingBatch batch = openBatches.get(postId);
+            if (batch == null) {
+                PendingBatch created = new PendingBatch(postId);
+                batch = openBatches.putIfAbsent(postId, created);
+                if (batch == null) {
+                    batch = created;
+                    try {
+                        flushScheduler.schedule(() -> closeAndFlush(created), windowMillis, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        unscheduled = created;
+                    }
+                }
+            }
+
+            synchronized (batch) {
+                if (batch.isClosed()) {
+                    // 막 처리에 들어간 묶음이면 새 묶음을 만들도록 다시 시도합니다.
+                    continue;
+                }
+                batch.getRequests().add(request);
+                if (batch == unscheduled || batch.getRequests().size() >= maxBatchSize) {
+                    batch.close();
+                    openBatches.remove(postId, batch);
+                    fullBatch = batch;
+                }
+            }
+            break;
+        }
+
+        if (fullBatch != null) {
+            flush(fullBatch);
+        }
+
+        try {
+            return request.getResult()
+                    .orTimeout(resultTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                // 묶음은 나중에 반영될 수도 있으므로 결과를 알 수 없음을 알립니다. (같은 요청을 다시 보내도 최종 상태는 같음)
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "좋아요 처리 결과를 기다리는 시간이 초과되었습니다.");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 묶음 처리 통계를 반환합니다. (관리자 API에서 사용)
+     * @return 요청 수, 묶음 수, 묶음당 평균 요청 수(coalescingRatio) 등
+     */
+    public Map<String, Object> getStats() {
+        long requests = requestCount.get();
+        long batches = batchCount.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("requestCount", requests);
+        stats.put("batchCount", batches);
+        stats.put("coalescingRatio", batches == 0 ? 0.0 : (double) requests / batches);
+        stats.put("rowChangeCount", rowChangeCount.get());
+        stats.put("failedBatchCount", failedBatchCount.get());
+        stats.put("openBatchCount", openBatches.size());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        if (flushScheduler == null) {
+            return;
+        }
+
+        // 새 요청은 묶지 않도록 한 뒤, 대기 중인 요청이 남지 않도록 열린 묶음을 모두 처리하고 종료합니다.
+        shuttingDown = true;
+        openBatches.values().forEach(this::closeAndFlush);
+        flushScheduler.shutdown();
+        try {
+            if (!flushScheduler.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("좋아요 묶음 처리 스레드가 {}ms 안에 끝나지 않아 강제 종료합니다.", shutdownTimeoutMillis);
+                flushScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flushScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeAndFlush(PendingBatch batch) {
+        synchronized (batch) {
+            if (batch.isClosed()) {
+                return;
+            }
+            batch.close();
+        }
+        openBatches.remove(batch.getPostId(), batch);
+        flush(batch);
+    }
+
+    // 닫힌 묶음만 처리하므로 requests는 더 이상 바뀌지 않습니다.
+    private void flush(PendingBatch batch) {
+
+        batchCount.incrementAndGet();
+        List<LikeRequest> requests = batch.getRequests();
+
+        try {
+            BatchOutcome outcome = transactionTemplate.execute(status -> apply(batch.getPostId(), requests));
+
+            // 커밋된 묶음만 집계합니다.
+            rowChangeCount.addAndGet(outcome.getRowChangeCount());
+
+            for (LikeRequest request : requests) {
+                if (outcome.getSkippedUserIds().contains(request.getUserId())) {
+                    request.getResult().completeExceptionally(
+                            new EntityNotFoundException("사용자(User ID: " + request.getUserId() + ")를 찾을 수 없습니다."));
+                    continue;
+                }
+                request.getResult().complete(LikeResponseDTO.builder()
+                        .likeCount(outcome.getLikeCount())
+                        .isLiked(request.isLike())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            failedBatchCount.incrementAndGet();
+            requests.forEach(request -> request.getResult().completeExceptionally(e));
+        }
+    }
+
+    // 하나의 트랜잭션 안에서 묶음 전체를 반영하고 최신 좋아요 수를 반환합니다.
+    private BatchOutcome apply(Long postId, List<LikeRequest> requests) {
+
+        // 1. 게시글 행 쓰기 락 (단건 처리와 같은 순서: posts → likes)
+        Integer likeCount = postRepository.findLikeCountByIdForUpdate(postId);
+        if (likeCount == null) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
+
+        // 2. 사용자별로 마지막 요청만 최종 상태로 반영합니다.
+        Map<Long, Boolean> desiredStates = new LinkedHashMap<>();
+        requests.forEach(request -> desiredStates.put(request.getUserId(), request.isLike()));
+
+        // 이미 좋아요를 누른 사용자 → 그 좋아요의 작성 시각
+        Map<Long, LocalDateTime> likedAts = new HashMap<>();
+        for (LikeTimeView liked : likeRepository.findLikeTimes(postId, desiredStates.keySet())) {
+            likedAts.put(liked.getUserId(), liked.getCreatedAt());
+        }
+
+        List<Long> toInsert = new ArrayList<>();
+        List<Long> toDelete = new ArrayList<>();
+        desiredStates.forEach((userId, like) -> {
+            if (like && !likedAts.containsKey(userId)) {
+                toInsert.add(userId);
+            } else if (!like && likedAts.containsKey(userId)) {
+                toDelete.add(userId);
+            }
+        });
+
+        // 3. likes INSERT/DELETE를 각각 한 번씩 실행합니다.
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = toInsert.isEmpty() ? 0 : likeRepository.insertLikes(postId, toInsert, now);
+        int deleted = toDelete.isEmpty() ? 0 : likeRepository.deleteLikes(postId, toDelete);
+
+        // INSERT ... SELECT FROM users는 없는 사용자를 건너뛰므로, 덜 추가되었으면 실제로 추가된 사용자만 남깁니다.
+        Set<Long> skippedUserIds = new HashSet<>();
+        if (inserted < toInsert.size()) {
+            Set<Long> insertedUserIds = new HashSet<>();
+            likeRepository.findLikeTimes(postId, toInsert).forEach(liked -> insertedUserIds.add(liked.getUserId()));
+            toInsert.stream().filter(userId -> !insertedUserIds.contains(userId)).forEach(skippedUserIds::add);
+            toInsert.retainAll(insertedUserIds);
+        }
+
+        // 커밋 이후 사용자별 좋아요 캐시가 갱신되도록 실제로 바뀐 사용자마다 이벤트를 발행합니다.
+        toInsert.forEach(userId -> eventPublisher.publishEvent(new PostLikeToggledEvent(postId, userId, true)));
+        toDelete.forEach(userId -> eventPublisher.publishEvent(new PostLikeToggledEvent(postId, userId, false)));
+
+        // 커밋 이후 트렌딩 점수에 새 좋아요는 지금 시각으로 더하고, 취소된 좋아요는 각자 눌렀던 시각의 가중치만큼 차감합니다.
+        if (inserted > 0) {
+            trendingScoreService.recordLike(postId, now, inserted);
+        }
+        if (deleted > 0) {
+            toDelete.forEach(userId -> trendingScoreService.recordLike(postId, likedAts.get(userId), -1));
+        }
+
+        // 4. like_count에는 순증감만 한 번 반영합니다.
+        int delta = inserted - deleted;
+        if (delta == 0) {
+            return new BatchOutcome(likeCount, inserted + deleted, skippedUserIds);
+        }
+
+        postRepository.addLikeCount(postId, delta);
+
+        int latestLikeCount = likeCount + delta;
+
+        // 커밋 이후 인기 게시글 리더보드가 갱신되도록 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, latestLikeCount));
+
+        return new BatchOutcome(latestLikeCount, inserted + deleted, skippedUserIds);
+    }
+
+    /**
+     * 커밋된 묶음의 처리 결과 (없는 사용자라 좋아요를 추가하지 못한 사용자는 skippedUserIds)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class BatchOutcome {
+
+        private Integer likeCount;
+        private int rowChangeCount;
+        private Set<Long> skippedUserIds;
+    }
+
+    /**
+     * 묶음에 담긴 요청 하나 (요청 스레드는 result가 완료될 때까지 기다립니다)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class LikeRequest {
+
+        private Long userId;
+        private boolean like;
+        private CompletableFuture<LikeResponseDTO> result;
+    }
+
+    /**
+     * 게시글 하나에 대해 모이고 있는 요청 묶음 (this로 동기화)
+     */
+    @Getter
+    private static class PendingBatch {
+
+        private final Long postId;
+        private final List<LikeRequest> requests = new ArrayList<>();
+        private boolean closed = false;
+
+        PendingBatch(Long postId) {
+            this.postId = postId;
+        }
+
+        void close() {
+            this.closed = true;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.backend.service;
 
-import com.example.backend.dto.LoginResponseDTO;
 import com.example.backend.dto.LoginResultWrapper;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
@@ -10,9 +10,23 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.function.Predicate;
 
+/**
+ * Google OAuth 로그인 처리
+ * - 인증 코드 교환을 논블로킹(Mono)으로 실행하므로, Google 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ * - 사용자 정보는 토큰 응답의 id_token을 로컬에서 검증하여 얻습니다. (userinfo API 호출 없음, GoogleIdTokenVerifier)
+ * - DB 작업(UserService.processGoogleLogin)만 boundedElastic 스케줄러에서 실행합니다.
+ * - 인증 코드는 한 번만 쓸 수 있으므로 코드 교환은 연결 자체가 실패한 경우(요청이 전송되지 않음)에만 지터를 준 간격으로 재시도합니다.
+ */
 @Service
 public class OAuthService {
 
@@ -27,23 +41,56 @@ public class OAuthService {
 
     private final WebClient webClient;
     private final UserService userService;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
 
-    public OAuthService(UserService userService, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
+    private final String tokenUri;
+
+    // 최대 재시도 횟수와 첫 재시도 간격
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public OAuthService(
+            UserService userService,
+            GoogleIdTokenVerifier googleIdTokenVerifier,
+            @Qualifier("googleWebClient") WebClient webClient,
+            @Value("${app.oauth.google.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+            @Value("${app.oauth.google.max-retries:2}") int maxRetries,
+            @Value("${app.oauth.google.retry-backoff-ms:100}") long retryBackoffMillis
+    ) {
+        this.webClient = webClient;
         this.userService = userService;
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+        this.tokenUri = tokenUri;
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.retryBackoff = Duration.ofMillis(Math.max(retryBackoffMillis, 1));
     }
 
     /**
      * Google로부터 받은 인증 코드를 처리하고, JWT와 프로필 정보를 반환합니다.
      * @param code Google에서 받은 인증 코드
-     * @return JWT와 프로필 정보가 담긴 DTO
+     * @param deviceLabel 로그인한 기기 표시용 문자열 (User-Agent)
+     * @return JWT와 프로필 정보가 담긴 DTO (구독 시 실행)
      */
-    public LoginResultWrapper getJwtAndProfileResponse(String code) {
-        
+    public Mono<LoginResultWrapper> getJwtAndProfileResponse(String code, String deviceLabel) {
+
         System.out.println("OAuthService - getJwtAndProfileResponse 진입");
-        
-        // 1. code -> access token 교환 (WebClient 사용)
-        String tokenUrl = "https://oauth2.googleapis.com/token";
+
+        // 1. code -> id_token 교환
+        return exchangeCode(code)
+                // 2. id_token 서명/클레임 로컬 검증 (email, name, sub)
+                .flatMap(googleIdTokenVerifier::verify)
+                // 3. UserService를 호출하여 두 개의 JWT 토큰을 받아서 반환 (JPA는 블로킹이므로 별도 스케줄러에서 실행)
+                .flatMap(claims -> Mono.fromCallable(() -> userService.processGoogleLogin(
+                                claims.get("email", String.class),
+                                claims.get("name", String.class),
+                                claims.getSubject(),
+                                deviceLabel
+                        ))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Mono<String> exchangeCode(String code) {
+
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("code", code);
         params.add("client_id", clientId);
@@ -51,30 +98,32 @@ public class OAuthService {
         params.add("redirect_uri", redirectUri);
         params.add("grant_type", "authorization_code");
 
-        Map<String, String> tokenResponse = webClient.post()
-                .uri(tokenUrl)
+        return webClient.post()
+                .uri(tokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(BodyInserters.fromFormData(params))
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Map<String, String>>() {})
-                .block();
-
-        String accessTokenFromGoogle = tokenResponse.get("access_token");
-
-        // 2. access_token -> Google API로 사용자 정보 가져오기 (WebClient 사용)
-        String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo";
-        Map<String, Object> userInfo = webClient.get()
-                .uri(userInfoUrl)
-                .headers(headers -> headers.setBearerAuth(accessTokenFromGoogle))
-                .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .block();
+                .retryWhen(retrySpec(OAuthService::isConnectFailure))
+                .flatMap(tokenResponse -> {
+                    Object idToken = tokenResponse.get("id_token");
+                    if (idToken == null) {
+                        return Mono.error(new IllegalStateException("Google 토큰 응답에 id_token이 없습니다. (openid scope 필요)"));
+                    }
+                    return Mono.just(idToken.toString());
+                });
+    }
 
-        String email = (String) userInfo.get("email");
-        String name = (String) userInfo.get("name");
-        String googleSnsId = (String) userInfo.get("id");
+    private Retry retrySpec(Predicate<Throwable> retryable) {
+        return Retry.backoff(maxRetries, retryBackoff)
+                .jitter(0.5)
+                .filter(retryable)
+                // 재시도를 모두 실패하면 RetryExhaustedException 대신 마지막 오류를 그대로 전달합니다.
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
 
-        // 3. UserService를 호출하여 두 개의 JWT 토큰을 Map 형태로 받아서 반환
-        return userService.processGoogleLogin(email, name, googleSnsId);
+    // 연결을 맺지 못해 요청이 Google에 전달되지 않은 경우 (연결 타임아웃 포함)
+    private static boolean isConnectFailure(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
     }
-}
\ No newline at end of file
+}
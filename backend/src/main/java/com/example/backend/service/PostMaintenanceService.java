@@ -0,0 +1,80 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Post;
+import com.example.backend.repository.PostContentView;
+import com.example.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글의 비정규화 컬럼(comment_count, excerpt 등)을 원본 테이블 기준으로 보정하는 관리자용 서비스
+ * 전체 테이블을 한 번에 잠그지 않도록 게시글 ID 범위(청크) 단위로 나누어 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostMaintenanceService {
+
+    // 청크 크기 상한 (한 번의 UPDATE가 너무 많은 행을 잠그지 않도록 제한)
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    // 미리보기 채우기의 청크 크기 상한 (본문(TEXT)을 메모리로 읽어 오므로 더 작게 제한)
+    private static final int MAX_EXCERPT_CHUNK_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+
+    /**
+     * 모든 게시글의 comment_count를 comments 테이블 기준으로 다시 계산합니다.
+     * 각 청크는 PostRepository.repairCommentCountRange의 트랜잭션으로 개별 커밋됩니다.
+     * @param chunkSize 한 번에 보정할 게시글 ID 범위 크기
+     * @return 값이 어긋나 보정된 게시글 수
+     */
+    public int repairCommentCounts(int chunkSize) {
+
+        int size = Math.min(Math.max(chunkSize, 1), MAX_CHUNK_SIZE);
+        long maxId = postRepository.findMaxIdNative();
+
+        int repairedCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += size) {
+            long toId = Math.min(fromId + size - 1, maxId);
+            repairedCount += postRepository.repairCommentCountRange(fromId, toId);
+        }
+
+        log.info("총 {}개의 게시글 comment_count 보정 완료", repairedCount);
+
+        return repairedCount;
+    }
+
+    /**
+     * 미리보기(excerpt) 컬럼이 추가되기 전에 작성된 게시글의 미리보기를 채웁니다.
+     * 새 글과 똑같은 미리보기가 되도록 본문을 읽어 Post.toExcerpt로 계산한 뒤, 청크마다 한 번의 UPDATE로 저장합니다.
+     * @param chunkSize 한 번에 처리할 게시글 ID 범위 크기
+     * @return 미리보기가 채워진 게시글 수
+     */
+    public int backfillExcerpts(int chunkSize) {
+
+        int size = Math.min(Math.max(chunkSize, 1), MAX_EXCERPT_CHUNK_SIZE);
+        long maxId = postRepository.findMaxIdNative();
+
+        int filledCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += size) {
+            long toId = Math.min(fromId + size - 1, maxId);
+
+            List<PostContentView> posts = postRepository.findContentsWithoutExcerptInRange(fromId, toId);
+            Map<Long, String> excerpts = new HashMap<>();
+            for (PostContentView post : posts) {
+                excerpts.put(post.getId(), Post.toExcerpt(post.getContent()));
+            }
+            filledCount += postRepository.bulkFillExcerpts(excerpts);
+        }
+
+        log.info("총 {}개의 게시글 excerpt 채움 완료", filledCount);
+
+        return filledCount;
+    }
+}
@@ -1,36 +1,77 @@
 package com.example.backend.service;
 
+import com.example.backend.cache.PopularPostLeaderboard;
+import com.example.backend.cache.PostDetailCache;
+import com.example.backend.cache.PostDetailCache.CachedPostBody;
+import com.example.backend.cache.ViewCountBuffer;
+import com.example.backend.dto.CursorPageResponseDTO;
+import com.example.backend.dto.PostBatchResponseDTO;
 import com.example.backend.dto.PostResponseDTO;
+import com.example.backend.dto.PostSummaryDTO;
+import com.example.backend.dto.TrendingPostSummaryDTO;
 import com.example.backend.entity.Post;
 import com.example.backend.entity.User;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.PostDeletedEvent;
+import com.example.backend.event.PostUpdatedEvent;
+import com.example.backend.event.PostsAnonymizedEvent;
+import com.example.backend.repository.PostCounterView;
 import com.example.backend.repository.PostRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.search.PostSearchIndex;
+import com.example.backend.search.PostSearchIndex.Hit;
+import com.example.backend.util.CursorUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor // final 필드(Repository 등)를 위한 생성자 자동 생성
 @Transactional(readOnly = true) // 기본적으로 읽기 전용 트랜잭션 적용 (성능 최적화)
 public class PostService {
 
+    // 커서 기반 목록 조회 시 한 번에 가져올 수 있는 최대 게시글 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
+    // 다건 조회 시 한 번에 요청할 수 있는 최대 게시글 수
+    private static final int MAX_BATCH_SIZE = 100;
+
+    // 커서 목록 조회 정렬 기준
+    private static final String SORT_LATEST = "latest";
+    private static final String SORT_TRENDING = "trending";
+
+    // 검색어 최대 길이 (문자 수)
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
+    // 목록 조회에서 허용하는 정렬 기준 (Post 엔티티 필드명)
+    private static final Set<String> LIST_SORT_PROPERTIES = Set.of("id", "title", "createdAt", "viewCount", "likeCount", "commentCount");
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-
-    // ⭐️ 수정된 Self-Injection: 필드 주입(@Autowired)으로 변경하여
-    // @RequiredArgsConstructor가 생성하는 생성자의 인자에서 제외시켜 순환 참조를 회피합니다.
-    @Autowired // 필드 주입으로 변경
-    @Lazy // 순환 참조 방지 및 프록시 주입을 위함
-    private PostService postServiceProxy; // ⭐️ final 키워드 제거
+    private final PopularPostLeaderboard popularPostLeaderboard;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingScoreService trendingScoreService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional //CUD에 붙는다. 그래야 JPA의 변경 감지(Dirty Checking) 기능 활성화
     public PostResponseDTO createPost(Long authorId, String title, String content) {
@@ -44,11 +85,15 @@ public class PostService {
         Post newPost = Post.builder()
                 .title(title)
                 .content(content)
+                .excerpt(Post.toExcerpt(content))
                 .author(author)
                 .build();
 
         Post savedPost = postRepository.save(newPost);
 
+        // 커밋 이후 검색 인덱스에 색인되도록 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), title, content));
+
         // 3. ⭐️ DTO로 변환하여 반환
         return new PostResponseDTO(savedPost);
     }
@@ -56,28 +101,172 @@ public class PostService {
     /**
      * 2. 게시글 목록 조회 (Read - List with Pagination)
      * @param pageable 페이징 및 정렬 정보
-     * @return PostResponseDTO로 변환된 Page 객체
+     * @return 요약 DTO(PostSummaryDTO) Page 객체
      */
-    public Page<PostResponseDTO> getPosts(Pageable pageable) {
+    public Page<PostSummaryDTO> getPosts(Pageable pageable) {
 
-        Page<Post> postPage = postRepository.findAll(pageable);
+        // 프로젝션 쿼리의 ORDER BY에는 Post 엔티티의 단순 필드만 허용합니다.
+        for (Sort.Order order : pageable.getSort()) {
+            if (!LIST_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + order.getProperty());
+            }
+        }
 
-        // DTO 변환 로직을 서비스에서 처리하여 Controller의 역할을 줄입니다.
-        return postPage.map(PostResponseDTO::new);
+        // 작성자와 댓글 수를 DTO 프로젝션으로 함께 가져오므로 게시글별 추가 쿼리(N+1)가 발생하지 않습니다.
+        return postRepository.findPostList(pageable);
     }
 
-    public List<PostResponseDTO> getTop4PostsForMain() {
+    /**
+     * 2-1. 게시글 목록 조회 (Read - List with Cursor)
+     * 최신순은 (createdAt, id), 트렌딩순은 (trendingScore, id) 커서로 다음 페이지를 탐색하며, COUNT 쿼리를 실행하지 않습니다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param sort 정렬 기준 (latest: 최신순, trending: 트렌딩순)
+     * @return 게시글 목록과 다음 커서
+     */
+    public CursorPageResponseDTO<PostSummaryDTO> getPostsByCursor(String cursor, int size, String sort) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        if (SORT_TRENDING.equals(sort)) {
+            return getTrendingPostsByCursor(cursor, pageSize);
+        }
+        if (!SORT_LATEST.equals(sort)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
 
-        // 1. Pageable 객체 생성: 0페이지에서 4개(limit 8)만 가져오도록 설정
-        // 이 Pageable이 DB 쿼리에 LIMIT 8을 적용시킵니다.
-        Pageable topN = PageRequest.of(0, 4);
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 1개를 더 조회합니다.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageByCursor(limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                posts = postRepository.findNextPageByCursor(LocalDateTime.parse(keys[0]), Long.valueOf(keys[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+        }
 
-        // 2. Repository 호출 (Page<DTO> 반환)
-        Page<PostResponseDTO> pageResult = postRepository.findTopNByLikeCount(topN);
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
 
-        // 3. Page 객체에서 실제 게시글 목록(List<DTO>)만 추출하여 반환
-        // DTO 변환 로직을 서비스에서 처리하여 Controller의 역할을 줄입니다.
-        return pageResult.getContent();
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryDTO last = posts.get(posts.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageResponseDTO<>(posts, nextCursor, hasNext);
+    }
+
+    // 트렌딩순 커서 조회
+    // 커서에는 점수를 읽었을 때의 기준 시각을 함께 담아, 그 사이 rebase가 있었다면 커서 점수를 현재 기준으로 환산합니다.
+    private CursorPageResponseDTO<PostSummaryDTO> getTrendingPostsByCursor(String cursor, int pageSize) {
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        LocalDateTime currentEpoch = trendingScoreService.getCurrentEpoch();
+
+        List<TrendingPostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageByTrending(limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 3);
+            try {
+                double score = trendingScoreService.rescale(Double.parseDouble(keys[0]), LocalDateTime.parse(keys[2]), currentEpoch);
+                posts = postRepository.findNextPageByTrending(score, Long.valueOf(keys[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TrendingPostSummaryDTO last = posts.get(posts.size() - 1);
+            nextCursor = CursorUtil.encode(last.getTrendingScore(), last.getId(), currentEpoch);
+        }
+
+        return new CursorPageResponseDTO<>(List.copyOf(posts), nextCursor, hasNext);
+    }
+
+    /**
+     * 2-2. 게시글 검색 (제목 + 본문)
+     * 인메모리 검색 인덱스에서 BM25 점수 순으로 게시글 ID를 찾은 뒤, 해당 페이지의 요약 정보만 한 번에 조회합니다.
+     * (점수, id) 커서로 다음 페이지를 탐색합니다.
+     * @param query 검색어
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 검색 결과와 다음 커서
+     */
+    public CursorPageResponseDTO<PostSummaryDTO> searchPosts(String query, String cursor, int size) {
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_SEARCH_QUERY_LENGTH + "자 이하로 입력해 주세요.");
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Double afterScore = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                afterScore = Double.valueOf(keys[0]);
+                afterId = Long.valueOf(keys[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부를 판단하기 위해 1개를 더 조회합니다.
+        List<Hit> hits = postSearchIndex.search(query, afterScore, afterId, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+        if (hits.isEmpty()) {
+            return new CursorPageResponseDTO<>(List.of(), null, false);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Hit last = hits.get(hits.size() - 1);
+            nextCursor = CursorUtil.encode(last.getScore(), last.getPostId());
+        }
+
+        // IN 조회 결과를 검색 순위대로 다시 정렬합니다. (색인 반영 전에 삭제된 게시글은 제외)
+        Map<Long, PostSummaryDTO> summaries = postRepository.findSummariesByIds(hits.stream().map(Hit::getPostId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+
+        List<PostSummaryDTO> posts = hits.stream()
+                .map(hit -> summaries.get(hit.getPostId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new CursorPageResponseDTO<>(posts, nextCursor, hasNext);
+    }
+
+    /**
+     * 메인 페이지 인기 게시글 조회
+     * 인메모리 리더보드의 스냅샷을 반환하므로 DB를 조회하지 않습니다. (노출 개수: app.popular.size)
+     * @return 좋아요 순 인기 게시글 목록
+     */
+    public List<PostSummaryDTO> getPopularPosts() {
+        return popularPostLeaderboard.getTopPosts();
     }
 
 
@@ -88,39 +277,122 @@ public class PostService {
      */
     public PostResponseDTO getPostDetail(Long postId) {
 
-        // 1. Fetch Join으로 Post와 User를 함께 로드합니다. (LazyException 원천 차단)
+        // 1. 캐시 적중: 본문은 캐시에서, 카운터만 PK로 좁게 조회하여 덧씌웁니다.
+        CachedPostBody body = postDetailCache.get(postId);
+        if (body != null) {
+            PostCounterView counters = postRepository.findCountersById(postId)
+                    .orElseThrow(() -> {
+                        // 캐시에는 남아 있지만 DB에서는 삭제된 경우
+                        postDetailCache.invalidate(postId);
+                        return new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+                    });
+
+            // 조회수 증가 (쓰기 지연 버퍼에만 기록하고, DB 반영은 주기적으로 일괄 처리)
+            long pendingViewCount = viewCountBuffer.increment(postId);
+
+            return new PostResponseDTO(
+                    body.getId(), body.getTitle(), body.getContent(),
+                    (int) (counters.getViewCount() + pendingViewCount), counters.getLikeCount(), counters.getCommentCount(),
+                    body.getAuthorId(), body.getAuthorName(), body.getCreatedAt()
+            );
+        }
+
+        // 2. 캐시 미적중: Fetch Join으로 Post와 User를 함께 로드한 뒤 본문을 캐시에 저장합니다.
+        long generation = postDetailCache.currentGeneration();
         Post post = postRepository.findPostWithAuthorById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
+        postDetailCache.put(post, generation);
 
-        // 2. 조회수 증가 (REQUIRES_NEW 트랜잭션 실행)
-        Integer latestViewCount = postServiceProxy.incrementViewCount(postId);
+        // 3. 조회수 증가 (쓰기 지연 버퍼에만 기록하고, DB 반영은 주기적으로 일괄 처리)
+        long pendingViewCount = viewCountBuffer.increment(postId);
 
-        // 3. Post 엔티티에 최신 값 강제 설정
-        // T2로부터 받은 확정된 값을 T1의 post 객체에 설정합니다.
-        post.setViewCount(latestViewCount);
+        // 4. 응답 조회수 = DB에 반영된 값 + 아직 반영 대기 중인 증가분
+        // 읽기 전용 트랜잭션이므로 엔티티 값을 바꿔도 UPDATE는 실행되지 않습니다.
+        post.setViewCount((int) (post.getViewCount() + pendingViewCount));
 
         System.out.println("viewCount: " + post.getViewCount());
 
-        return new PostResponseDTO(post); // post는 이제 정확한 viewCount를 가집니다.
+        return new PostResponseDTO(post);
     }
 
     /**
-     * ⭐️ 추가: 조회수 증가를 위한 별도의 쓰기 트랜잭션 메서드
-     * 이 메서드는 Native Query를 사용하여 updated_at 변경 없이 view_count만 업데이트합니다.
-     * @param postId 증가시킬 게시글 ID
+     * 3-1. 게시글 다건 조회 (북마크, 알림 등에서 ID 목록을 한 번에 풀어낼 때 사용)
+     * 상세 캐시에 있는 게시글은 카운터만, 없는 게시글은 작성자와 함께 각각 한 번의 IN 쿼리로 가져옵니다.
+     * 상세 화면 조회가 아니므로 조회수는 증가시키지 않습니다.
+     * @param postIds 조회할 게시글 ID 목록 (중복은 한 번만 조회)
+     * @return 요청 순서대로 정렬된 게시글 목록과 찾지 못한 ID 목록
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW) // 새롭고 독립적인 트랜잭션을 시작하도록 강제. 성공적으로 끝나면 바로 커밋됨
-    public Integer incrementViewCount(Long postId) {
+    public PostBatchResponseDTO getPostsByIds(List<Long> postIds) {
+
+        if (postIds == null || postIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 게시글 ID를 입력해 주세요.");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(postIds);
+        requestedIds.remove(null);
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("게시글은 한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Long, PostResponseDTO> found = new HashMap<>();
+
+        // 1. 캐시에서 본문을 찾고, 적중한 게시글의 카운터만 한 번에 조회합니다.
+        Map<Long, CachedPostBody> cachedBodies = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long postId : requestedIds) {
+            CachedPostBody body = postDetailCache.get(postId);
+            if (body != null) {
+                cachedBodies.put(postId, body);
+            } else {
+                missedIds.add(postId);
+            }
+        }
 
-        // 1. DB에 조회수 업데이트 (DML 쿼리)
-        postRepository.incrementViewCount(postId);
+        if (!cachedBodies.isEmpty()) {
+            Map<Long, PostCounterView> counters = postRepository.findCountersByIds(cachedBodies.keySet()).stream()
+                    .collect(Collectors.toMap(PostCounterView::getId, Function.identity()));
+
+            cachedBodies.forEach((postId, body) -> {
+                PostCounterView counter = counters.get(postId);
+                if (counter == null) {
+                    // 캐시에는 남아 있지만 DB에서는 삭제된 경우
+                    postDetailCache.invalidate(postId);
+                    return;
+                }
+                found.put(postId, new PostResponseDTO(
+                        body.getId(), body.getTitle(), body.getContent(),
+                        (int) (counter.getViewCount() + viewCountBuffer.getPending(postId)),
+                        counter.getLikeCount(), counter.getCommentCount(),
+                        body.getAuthorId(), body.getAuthorName(), body.getCreatedAt()
+                ));
+            });
+        }
+
+        // 2. 캐시 미적중분은 작성자와 함께 한 번의 IN 쿼리로 가져오고 캐시에 저장합니다.
+        if (!missedIds.isEmpty()) {
+            long generation = postDetailCache.currentGeneration();
+            for (Post post : postRepository.findPostsWithAuthorByIds(missedIds)) {
+                postDetailCache.put(post, generation);
+
+                // 읽기 전용 트랜잭션이므로 엔티티 값을 바꿔도 UPDATE는 실행되지 않습니다.
+                post.setViewCount((int) (post.getViewCount() + viewCountBuffer.getPending(post.getId())));
+                found.put(post.getId(), new PostResponseDTO(post));
+            }
+        }
 
-        // 2. ⭐️ 같은 REQUIRES_NEW 트랜잭션 내에서 Native Query를 실행하여
-        //    방금 업데이트된 최신 값(N+1)을 DB로부터 가져옵니다. ⭐️
-        Integer latestViewCount = postRepository.findViewCountByIdNative(postId);
+        // 3. 요청 순서대로 정렬하고, 찾지 못한 ID를 따로 모읍니다.
+        List<PostResponseDTO> posts = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long postId : requestedIds) {
+            PostResponseDTO post = found.get(postId);
+            if (post != null) {
+                posts.add(post);
+            } else {
+                missingIds.add(postId);
+            }
+        }
 
-        // 이 메서드가 끝나면 DB COMMIT이 발생하며, latestViewCount는 T1으로 전달됩니다.
-        return latestViewCount;
+        return new PostBatchResponseDTO(posts, missingIds);
     }
 
     // === 게시글 수정 ===
@@ -140,6 +412,9 @@ public class PostService {
         // 2. 객체 상태 변경
         post.updatePost(newTitle, newContent);
 
+        // 커밋 이후 상세 캐시에서 제거되고 검색 인덱스에 다시 색인되도록 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new PostUpdatedEvent(postId, post.getTitle(), post.getContent()));
+
         // 3. 트랜잭션 종료 시 자동 UPDATE (repository.save() 호출 필요 없음)
         return new PostResponseDTO(post);
     }
@@ -159,6 +434,9 @@ public class PostService {
         // 2. ⭐️ @SQLDelete 대신, 자바 객체의 상태 변경 메서드를 직접 호출합니다.
         post.markAsDeleted();
 
+        // 커밋 이후 인메모리 구조(인기 게시글, 상세 캐시 등)에서 제거되도록 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new PostDeletedEvent(postId));
+
         // 3. JPA의 변경 감지(Dirty Checking)가 post의 deleted_at 및 updated_at 변경을 감지하고,
         //    트랜잭션 종료 시 UPDATE 쿼리를 실행하여 DB에 반영합니다.
         // postRepository.save(post); // 👈 Dirty Checking에 맡기므로 생략 가능 (명시적 호출도 무방)
@@ -190,6 +468,9 @@ public class PostService {
 
         int updatedCount = postRepository.bulkUpdateAuthorIdToDummy(originalUserId, dummyUserId);
 
+        // 커밋 이후 상세 캐시에 남아 있는 원래 작성자 정보가 제거되도록 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new PostsAnonymizedEvent(originalUserId));
+
         System.out.println("PostService: 총 " + updatedCount + "개의 게시글 작성자 익명화 완료 (벌크 업데이트)");
     }
 }
@@ -0,0 +1,200 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.AccessTokenRevocationRegistry;
+import com.example.backend.dto.IssuedTokens;
+import com.example.backend.entity.RefreshSession;
+import com.example.backend.entity.User;
+import com.example.backend.exception.RefreshTokenExpiredException;
+import com.example.backend.repository.RefreshSessionRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.util.JwtUtil;
+import com.example.backend.util.TokenHashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 기기별 로그인 세션(refresh_sessions) 관리
+ * - 로그인할 때마다 세션 행을 하나 만들므로, 한 사용자가 여러 기기에서 동시에 로그인할 수 있습니다.
+ * - 재발급 시 Refresh Token의 해시로 기본 키 조회 한 번만 하고, 새 Refresh Token을 발급하며 이전 토큰은 사용 처리합니다. (rotation)
+ * - 로그아웃은 현재 기기의 세션만 삭제합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RefreshSessionService {
+
+    // device_label 컬럼 길이
+    private static final int MAX_DEVICE_LABEL_LENGTH = 100;
+
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
+
+    // 여러 탭이 동시에 재발급을 요청하는 경우, 이 시간 안에 다시 들어온 이전 토큰은 탈취가 아닌 것으로 봅니다. (초)
+    private final long rotationGraceSeconds;
+
+    // 만료 세션 정리 시 한 번에 삭제할 최대 행 수
+    private final int sweepBatchSize;
+
+    public RefreshSessionService(
+            RefreshSessionRepository refreshSessionRepository,
+            UserRepository userRepository,
+            JwtUtil jwtUtil,
+            AccessTokenRevocationRegistry accessTokenRevocationRegistry,
+            @Value("${app.auth.session.rotation-grace-seconds:10}") long rotationGraceSeconds,
+            @Value("${app.auth.session.sweep-batch-size:1000}") int sweepBatchSize
+    ) {
+        this.refreshSessionRepository = refreshSessionRepository;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.accessTokenRevocationRegistry = accessTokenRevocationRegistry;
+        this.rotationGraceSeconds = Math.max(rotationGraceSeconds, 0);
+        this.sweepBatchSize = Math.max(sweepBatchSize, 1);
+    }
+
+    /**
+     * 로그인한 기기의 세션을 새로 만들고 토큰을 발급합니다.
+     * @param user 로그인한 사용자
+     * @param deviceLabel 기기 표시용 문자열 (User-Agent, 없으면 null)
+     * @return Access Token과 Refresh Token
+     */
+    @Transactional
+    public IssuedTokens createSession(User user, String deviceLabel) {
+        String familyId = UUID.randomUUID().toString();
+        return issue(user, familyId, null, truncate(deviceLabel), LocalDateTime.now());
+    }
+
+    /**
+     * Refresh Token으로 새 Access Token과 새 Refresh Token을 발급합니다.
+     * 이미 재발급에 사용된 토큰이 유예 시간 이후에 다시 들어오면 탈취된 것으로 보고 해당 기기 세션을 모두 삭제합니다.
+     * @param refreshToken 쿠키의 Refresh Token
+     * @return 새 토큰 (유예 시간 안의 중복 요청이면 Refresh Token은 null)
+     */
+    @Transactional(noRollbackFor = RefreshTokenExpiredException.class)
+    public IssuedTokens rotate(String refreshToken) {
+
+        String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 해시(기본 키)로 세션 조회 + 쓰기 락
+        RefreshSession session = refreshSessionRepository.findByIdForUpdate(tokenHash)
+                .orElseThrow(() -> new RefreshTokenExpiredException("Invalid refresh token"));
+
+        // 2. 만료 확인
+        if (session.isExpired(now)) {
+            refreshSessionRepository.delete(session);
+            throw new RefreshTokenExpiredException("Refresh token expired. Please log in again.");
+        }
+
+        User user = userRepository.findById(session.getUserId())
+                .filter(found -> found.getDeletedAt() == null)
+                .orElse(null);
+        if (user == null) {
+            refreshSessionRepository.deleteByUserIdNative(session.getUserId());
+            throw new RefreshTokenExpiredException("Invalid refresh token");
+        }
+
+        // 3. 이미 재발급에 사용된 토큰
+        if (session.isRotated()) {
+            if (session.getRotatedAt().plusSeconds(rotationGraceSeconds).isAfter(now)) {
+                // 다른 탭의 동시 요청이 먼저 재발급한 경우: 새 Refresh Token은 이미 쿠키에 있으므로 Access Token만 발급합니다.
+                return new IssuedTokens(jwtUtil.generateAccessToken(user, session.getFamilyId()), null);
+            }
+
+            log.warn("Refresh Token 재사용 감지, 세션 삭제 - userId: {}", session.getUserId());
+            revokeFamily(session.getFamilyId());
+            throw new RefreshTokenExpiredException("Refresh token reuse detected. Please log in again.");
+        }
+
+        // 4. 이전 토큰은 사용 처리하고(변경 감지), 같은 family로 새 세션을 만듭니다.
+        session.markAsRotated(now);
+        return issue(user, session.getFamilyId(), tokenHash, session.getDeviceLabel(), now);
+    }
+
+    /**
+     * 현재 기기의 세션만 삭제합니다. (로그아웃)
+     * @param refreshToken 쿠키의 Refresh Token
+     */
+    @Transactional
+    public void deleteSession(String refreshToken) {
+        refreshSessionRepository.findById(TokenHashUtil.sha256Hex(refreshToken))
+                .ifPresent(session -> revokeFamily(session.getFamilyId()));
+    }
+
+    /**
+     * 사용자의 모든 기기 세션을 삭제합니다. (회원 탈퇴)
+     * @param userId 사용자 ID
+     * @return 삭제된 세션 행 수
+     */
+    @Transactional
+    public int deleteAllSessions(Long userId) {
+        return refreshSessionRepository.deleteByUserIdNative(userId);
+    }
+
+    /**
+     * 만료된 세션을 batch 크기씩 나누어 삭제합니다.
+     * 한 번에 지우면 큰 트랜잭션이 오래 락을 잡으므로, 배치마다 커밋합니다. (deleteExpiredBatch가 각자 트랜잭션)
+     * @return 삭제된 세션 행 수
+     */
+    @Scheduled(fixedDelayString = "${app.auth.session.sweep-interval-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sweepExpired() {
+
+        LocalDateTime now = LocalDateTime.now();
+        int deletedCount = 0;
+
+        while (true) {
+            int deleted = refreshSessionRepository.deleteExpiredBatch(now, sweepBatchSize);
+            deletedCount += deleted;
+            if (deleted < sweepBatchSize) {
+                break;
+            }
+        }
+
+        if (deletedCount > 0) {
+            log.info("만료된 세션 {}개 삭제", deletedCount);
+        }
+        return deletedCount;
+    }
+
+    private IssuedTokens issue(User user, String familyId, String parentHash, String deviceLabel, LocalDateTime now) {
+
+        String accessToken = jwtUtil.generateAccessToken(user, familyId);
+        String refreshToken = jwtUtil.generateRefreshToken(user, familyId);
+
+        refreshSessionRepository.insertSession(
+                TokenHashUtil.sha256Hex(refreshToken),
+                user.getId(),
+                familyId,
+                parentHash,
+                deviceLabel,
+                now,
+                now.plusSeconds(jwtUtil.getRefreshTokenValidityInSeconds())
+        );
+
+        return new IssuedTokens(accessToken, refreshToken);
+    }
+
+    // 한 기기의 세션 행을 모두 지우고, 그 세션에서 발급된 Access Token도 거부합니다.
+    private void revokeFamily(String familyId) {
+        refreshSessionRepository.deleteByFamilyIdNative(familyId);
+        accessTokenRevocationRegistry.revokeSession(familyId);
+    }
+
+    private String truncate(String deviceLabel) {
+        if (deviceLabel == null || deviceLabel.isBlank()) {
+            return null;
+        }
+        return deviceLabel.length() > MAX_DEVICE_LABEL_LENGTH
+                ? deviceLabel.substring(0, MAX_DEVICE_LABEL_LENGTH)
+                : deviceLabel;
+    }
+}
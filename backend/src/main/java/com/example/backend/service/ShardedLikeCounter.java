@@ -0,0 +1,157 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.LikeRepository;
+import com.example.backend.repository.PostLikeShardRepository;
+import com.example.backend.repository.PostLikeCountView;
+import com.example.backend.repository.PostRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 분산 카운터(post_like_shards)를 사용하는 좋아요 카운터 (app.like.counter.mode=sharded)
+ * - 좋아요/취소는 posts 행을 잠그지 않고, 무작위로 고른 (post_id, shard) 행 하나에 증감분을 기록합니다.
+ *   같은 게시글에 대한 동시 요청이 여러 행으로 흩어지므로 단일 행 락 경합이 사라집니다.
+ * - 게시글과 기존 좋아요를 잠금 없이 확인한 뒤 일반 INSERT로 추가합니다. posts 행에는 락을 걸지 않으며,
+ *   동시에 들어온 같은 사용자의 중복 좋아요는 likes의 (post_id, user_id) 유니크 제약 위반으로 롤백됩니다. (LikeService가 한 번 재시도)
+ * - 좋아요 수 = posts.like_count + 아직 합쳐지지 않은 분산 카운터 합계
+ * - 주기적으로 분산 카운터를 posts.like_count에 합치므로(compaction), 목록/인기 게시글 정렬은 like_count 컬럼을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.like.counter.mode", havingValue = "sharded")
+public class ShardedLikeCounter implements LikeCounter {
+
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final PostLikeShardRepository postLikeShardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게시글당 분산 카운터 행 수
+    private final int shardCount;
+
+    // 한 번의 compaction에서 처리할 최대 게시글 수
+    private final int compactBatchSize;
+
+    public ShardedLikeCounter(
+            PostRepository postRepository,
+            LikeRepository likeRepository,
+            PostLikeShardRepository postLikeShardRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.like.counter.shards:16}") int shardCount,
+            @Value("${app.like.counter.compact-batch-size:500}") int compactBatchSize
+    ) {
+        this.postRepository = postRepository;
+        this.likeRepository = likeRepository;
+        this.postLikeShardRepository = postLikeShardRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardCount = Math.max(shardCount, 1);
+        this.compactBatchSize = Math.max(compactBatchSize, 1);
+    }
+
+    @Override
+    public LikeCountChange addLike(Long postId, Long userId) {
+
+        // 1. 게시글 확인 (INSERT ... SELECT FROM posts와 달리 posts 행에 공유 락을 걸지 않음)
+        if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
+
+        // 2. 이미 좋아요 상태이면 아무것도 바꾸지 않습니다. (멱등)
+        if (likeRepository.existsByPost_IdAndUser_Id(postId, userId)) {
+            return new LikeCountChange(false, findLatestLikeCount(postId), null);
+        }
+
+        // 3. 좋아요 기록 추가 (외래 키/유니크 제약 위반은 무시하지 않고 예외로 롤백)
+        LocalDateTime now = LocalDateTime.now();
+        likeRepository.insertLike(postId, userId, now);
+
+        // 4. 분산 카운터 한 칸에 +1
+        postLikeShardRepository.addDelta(postId, pickShard(), 1);
+
+        return new LikeCountChange(true, findLatestLikeCount(postId), now);
+    }
+
+    @Override
+    public LikeCountChange removeLike(Long postId, Long userId) {
+
+        // 1. 좋아요 기록을 잠그고 작성 시각을 읽은 뒤 삭제
+        LocalDateTime likedAt = likeRepository.findCreatedAtForUpdate(postId, userId);
+        boolean changed = likedAt != null && likeRepository.deleteLike(postId, userId) == 1;
+
+        // 2. 실제로 삭제되었을 때만 분산 카운터 한 칸에 -1
+        if (changed) {
+            postLikeShardRepository.addDelta(postId, pickShard(), -1);
+        }
+
+        return new LikeCountChange(changed, findLatestLikeCount(postId), changed ? likedAt : null);
+    }
+
+    @Override
+    public Integer getLikeCount(Long postId) {
+        return postRepository.findLikeCountWithShardsByIdNative(postId);
+    }
+
+    @Override
+    public Map<Long, Integer> getLikeCounts(Collection<Long> postIds) {
+        return postRepository.findLikeCountsWithShardsByIdsNative(postIds).stream()
+                .collect(Collectors.toMap(PostLikeCountView::getPostId, PostLikeCountView::getLikeCount));
+    }
+
+    /**
+     * 분산 카운터의 증감분을 posts.like_count에 합치고 분산 카운터 행을 지웁니다.
+     * 게시글마다 짧은 트랜잭션으로 처리합니다.
+     * @return 합친 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${app.like.counter.compact-interval-ms:1000}")
+    public int compact() {
+
+        List<Long> postIds = postLikeShardRepository.findPendingPostIds(compactBatchSize);
+
+        for (Long postId : postIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> compactPost(postId));
+            } catch (RuntimeException e) {
+                log.warn("게시글(Post ID: {}) 좋아요 수 합치기 실패", postId, e);
+            }
+        }
+        return postIds.size();
+    }
+
+    // 좋아요 요청과 같은 순서(posts → post_like_shards)로 락을 잡아 교착 상태를 피합니다.
+    // 좋아요 요청은 posts 행에 공유 락만 걸기 때문에, 여기서 쓰기 락을 잡는 동안만 해당 게시글의 좋아요가 잠시 대기합니다.
+    private void compactPost(Long postId) {
+
+        postRepository.lockPostRowNative(postId);
+
+        Long delta = postLikeShardRepository.sumDeltaForUpdate(postId);
+        if (delta != null && delta != 0) {
+            postRepository.addLikeCount(postId, delta.intValue());
+        }
+        postLikeShardRepository.deleteByPostIdNative(postId);
+    }
+
+    // 같은 게시글의 동시 요청이 서로 다른 행에 흩어지도록 무작위로 고릅니다.
+    private int pickShard() {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+    private int findLatestLikeCount(Long postId) {
+        Integer likeCount = getLikeCount(postId);
+        if (likeCount == null) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
+        return likeCount;
+    }
+}
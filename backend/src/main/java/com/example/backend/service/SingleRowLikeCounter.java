@@ -0,0 +1,85 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.LikeRepository;
+import com.example.backend.repository.PostLikeCountView;
+import com.example.backend.repository.PostRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * posts.like_count 한 행을 직접 증감하는 기본 좋아요 카운터
+ * 게시글 행 쓰기 락을 먼저 잡으므로 같은 게시글의 좋아요는 직렬화됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.like.counter.mode", havingValue = "single-row", matchIfMissing = true)
+public class SingleRowLikeCounter implements LikeCounter {
+
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+
+    // 엔티티를 로딩하지 않고 조건부 UPDATE → INSERT → like_count 조회, 세 문장으로 처리합니다.
+    @Override
+    public LikeCountChange addLike(Long postId, Long userId) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 아직 좋아요를 누르지 않았다면 like_count를 1 증가 (게시글 행 쓰기 락으로 같은 게시글의 동시 요청을 직렬화)
+        boolean changed = postRepository.incrementLikeCountIfNotLiked(postId, userId) == 1;
+
+        // 2. 증가했을 때만 좋아요 기록 추가 (유니크 제약 위반 시 예외로 1번도 함께 롤백)
+        if (changed) {
+            likeRepository.insertLike(postId, userId, now);
+        }
+
+        // 3. 최신 좋아요 수 조회 (게시글이 없거나 삭제되었으면 404)
+        return new LikeCountChange(changed, findLatestLikeCount(postId), changed ? now : null);
+    }
+
+    @Override
+    public LikeCountChange removeLike(Long postId, Long userId) {
+
+        // 1. 좋아요 추가와 같은 순서(게시글 행 → 좋아요 행)로 잠그기 위해 게시글 행 쓰기 락을 먼저 잡습니다. (게시글이 없거나 삭제되었으면 404)
+        if (postRepository.findLikeCountByIdForUpdate(postId) == null) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
+
+        // 2. 좋아요 기록을 잠그고 작성 시각을 읽은 뒤 삭제 (삭제된 행이 있을 때만 카운터를 줄입니다)
+        LocalDateTime likedAt = likeRepository.findCreatedAtForUpdate(postId, userId);
+        boolean changed = likedAt != null && likeRepository.deleteLike(postId, userId) == 1;
+
+        // 3. posts 테이블의 like_count만 1 감소 (updated_at 갱신 방지를 위해 벌크 쿼리 사용)
+        if (changed) {
+            postRepository.decrementLikeCount(postId);
+        }
+
+        // 4. 최신 좋아요 수 조회
+        return new LikeCountChange(changed, findLatestLikeCount(postId), changed ? likedAt : null);
+    }
+
+    @Override
+    public Integer getLikeCount(Long postId) {
+        return postRepository.findLikeCountByIdNative(postId);
+    }
+
+    @Override
+    public Map<Long, Integer> getLikeCounts(Collection<Long> postIds) {
+        return postRepository.findLikeCountsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostLikeCountView::getPostId, PostLikeCountView::getLikeCount));
+    }
+
+    private int findLatestLikeCount(Long postId) {
+        Integer likeCount = getLikeCount(postId);
+        if (likeCount == null) {
+            throw new EntityNotFoundException("게시글(Post ID: " + postId + ")를 찾을 수 없습니다.");
+        }
+        return likeCount;
+    }
+}
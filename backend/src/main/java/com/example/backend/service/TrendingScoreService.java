@@ -0,0 +1,236 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.TrendingEpoch;
+import com.example.backend.event.TrendingActivityEvent;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.repository.TrendingEpochRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 트렌딩 점수(posts.trending_score) 관리
+ * - 트렌딩 점수 = Σ 가중치 × exp(-(현재 - 이벤트 시각) / 시간 상수) 이지만,
+ *   매번 모든 점수를 감쇠시키지 않도록 "기준 시각(epoch)으로부터 앞으로 커지는 가중치"를 더합니다. (forward decay)
+ *   Σ 가중치 × exp((이벤트 시각 - 기준 시각) / 시간 상수) 는 실제 점수에 모든 게시글 공통의 상수를 곱한 값이므로 정렬 순서가 같습니다.
+ * - 좋아요/댓글은 커밋 이후 TrendingScoreBuffer에, 조회는 ViewCountBuffer에 모았다가 원자적 UPDATE로 반영하며, 테이블 전체를 다시 계산하지 않습니다.
+ * - 취소(좋아요 취소, 댓글 삭제)는 원래 활동 시각의 가중치를 차감하므로, 처음 더한 만큼만 빠집니다.
+ * - 가중치가 시간에 따라 계속 커져 DOUBLE 범위를 넘지 않도록 매일 기준 시각을 현재로 옮기고 모든 점수를 같은 비율로 줄입니다. (rebase)
+ *   rebase는 게시글 ID 구간마다 짧은 트랜잭션으로 나누어 진행하며, 점수 반영 UPDATE와 같은 순서(기준 시각 행 → 게시글 행)로 잠급니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TrendingScoreService {
+
+    // 이 값보다 작아진 점수는 rebase 시 0으로 만듭니다. (좋아요 1개의 가중치가 수십 번의 반감기를 지난 수준)
+    private static final double SCORE_FLOOR = 1e-9;
+
+    // 점수 채우기 청크 크기 상한
+    private static final int MAX_BACKFILL_CHUNK_SIZE = 10_000;
+
+    private final PostRepository postRepository;
+    private final TrendingEpochRepository trendingEpochRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+
+    // 감쇠 시간 상수 (초) = 반감기 / ln 2
+    private final double timeScaleSeconds;
+
+    // rebase 시 한 트랜잭션에서 환산할 게시글 ID 범위 크기
+    private final int rebaseChunkSize;
+
+    public TrendingScoreService(
+            PostRepository postRepository,
+            TrendingEpochRepository trendingEpochRepository,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.trending.like-weight:3.0}") double likeWeight,
+            @Value("${app.trending.comment-weight:2.0}") double commentWeight,
+            @Value("${app.trending.view-weight:0.1}") double viewWeight,
+            @Value("${app.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${app.trending.rebase-chunk-size:1000}") int rebaseChunkSize
+    ) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("app.trending.half-life-hours는 0보다 커야 합니다.");
+        }
+        this.postRepository = postRepository;
+        this.trendingEpochRepository = trendingEpochRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.timeScaleSeconds = halfLifeHours * 3600 / Math.log(2);
+        this.rebaseChunkSize = Math.max(rebaseChunkSize, 1);
+    }
+
+    /**
+     * 기준 시각 행이 없으면 현재 시각으로 생성합니다. (애플리케이션 시작 시 DataInitializer에서 호출)
+     */
+    @Transactional
+    public void initializeEpoch() {
+        trendingEpochRepository.insertIfAbsent(TrendingEpoch.SINGLETON_ID, LocalDateTime.now());
+    }
+
+    /**
+     * 좋아요 추가/취소를 트렌딩 점수에 반영합니다. (호출 측 트랜잭션이 커밋된 뒤 TrendingScoreBuffer에 모임)
+     * @param postId 게시글 ID
+     * @param likedAt 좋아요를 누른 시각 (취소면 취소된 좋아요 기록의 작성 시각)
+     * @param delta 그 시각에 누른 좋아요 수의 순증감 (추가 1건이면 1, 취소 1건이면 -1, 묶음 처리 시 합계)
+     */
+    public void recordLike(Long postId, LocalDateTime likedAt, int delta) {
+        eventPublisher.publishEvent(new TrendingActivityEvent(postId, likeWeight * delta, likedAt));
+    }
+
+    /**
+     * 댓글 작성(+1)/삭제(-1)를 트렌딩 점수에 반영합니다. (호출 측 트랜잭션이 커밋된 뒤 TrendingScoreBuffer에 모임)
+     * @param postId 게시글 ID
+     * @param commentedAt 댓글 작성 시각 (삭제여도 작성 시각)
+     * @param direction 작성이면 1, 삭제면 -1
+     */
+    public void recordComment(Long postId, LocalDateTime commentedAt, int direction) {
+        eventPublisher.publishEvent(new TrendingActivityEvent(postId, commentWeight * direction, commentedAt));
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고, 모든 점수를 옮긴 시간만큼 감쇠시킵니다.
+     * 게시글 ID 구간마다 기준 시각 행을 잠근 짧은 트랜잭션으로 나누어 환산하며, 진행 상황(rebase_next_id)을 기준 시각 행에 남깁니다.
+     * 진행 중에는 점수 반영 UPDATE가 아직 환산되지 않은 게시글에 이전 기준 시각을 적용하므로 점수가 어긋나지 않고,
+     * 중간에 중단되어도 다음 실행에서 이어서 진행합니다.
+     * @return 갱신된 게시글 수
+     */
+    @Scheduled(cron = "${app.trending.rebase-cron:0 30 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebase() {
+
+        // 1. 새 기준 시각으로 옮기기 시작 (중단된 rebase가 있으면 그 기준 시각으로 이어서 진행)
+        Boolean started = transactionTemplate.execute(status -> {
+            TrendingEpoch epoch = lockEpoch();
+            if (epoch.isRebasing()) {
+                return true;
+            }
+
+            LocalDateTime newEpoch = LocalDateTime.now();
+            if (Duration.between(epoch.getEpoch(), newEpoch).getSeconds() <= 0) {
+                return false;
+            }
+            // 변경 감지로 트랜잭션 종료 시 반영됩니다.
+            epoch.startRebase(newEpoch);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(started)) {
+            return 0;
+        }
+
+        // 2. 게시글 ID 구간마다 환산 (모든 구간을 마치면 null)
+        int rescaledCount = 0;
+        while (true) {
+            Integer chunkCount = transactionTemplate.execute(status -> rescaleNextChunk());
+            if (chunkCount == null) {
+                break;
+            }
+            rescaledCount += chunkCount;
+        }
+
+        log.info("총 {}개의 게시글 트렌딩 점수 rebase 완료", rescaledCount);
+
+        return rescaledCount;
+    }
+
+    // 기준 시각 행을 먼저 잠근 뒤 다음 ID 구간의 점수를 환산합니다. 모든 구간을 마쳤으면 rebase를 끝내고 null을 반환합니다.
+    private Integer rescaleNextChunk() {
+
+        TrendingEpoch epoch = lockEpoch();
+        if (!epoch.isRebasing()) {
+            return null;
+        }
+
+        long fromId = epoch.getRebaseNextId();
+        // rebase 도중 작성된 게시글까지 포함하도록 매 구간마다 최대 ID를 다시 읽습니다.
+        if (fromId > postRepository.findMaxIdNative()) {
+            epoch.finishRebase();
+            return null;
+        }
+
+        long toId = fromId + rebaseChunkSize - 1;
+        long elapsedSeconds = Duration.between(epoch.getPreviousEpoch(), epoch.getEpoch()).getSeconds();
+        int count = postRepository.rescaleTrendingScoreRange(fromId, toId, Math.exp(-elapsedSeconds / timeScaleSeconds), SCORE_FLOOR);
+
+        epoch.advanceRebase(toId + 1);
+        return count;
+    }
+
+    /**
+     * 트렌딩 점수가 도입되기 전에 작성되어 점수가 0인 게시글의 점수를 좋아요/댓글 기록으로 계산해 채웁니다.
+     * 각 청크는 PostRepository.backfillTrendingScoreRange의 트랜잭션으로 개별 커밋됩니다.
+     * @param chunkSize 한 번에 처리할 게시글 ID 범위 크기
+     * @return 점수가 채워진 게시글 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillScores(int chunkSize) {
+
+        int size = Math.min(Math.max(chunkSize, 1), MAX_BACKFILL_CHUNK_SIZE);
+        long maxId = postRepository.findMaxIdNative();
+
+        int filledCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += size) {
+            long toId = Math.min(fromId + size - 1, maxId);
+            filledCount += postRepository.backfillTrendingScoreRange(fromId, toId,
+                    likeWeight, commentWeight, viewWeight, timeScaleSeconds);
+        }
+
+        log.info("총 {}개의 게시글 트렌딩 점수 채움 완료", filledCount);
+
+        return filledCount;
+    }
+
+    /**
+     * 현재 기준 시각을 조회합니다.
+     * @return 현재 기준 시각
+     */
+    public LocalDateTime getCurrentEpoch() {
+        return trendingEpochRepository.findById(TrendingEpoch.SINGLETON_ID)
+                .map(TrendingEpoch::getEpoch)
+                .orElseThrow(() -> new EntityNotFoundException("트렌딩 기준 시각을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 이전 기준 시각으로 계산된 점수를 현재 기준 시각의 점수로 환산합니다.
+     * (커서를 받은 뒤 rebase가 일어났을 때 커서 점수를 맞추기 위해 사용)
+     * @param score 이전 기준 시각의 점수
+     * @param scoreEpoch 점수를 읽었을 때의 기준 시각
+     * @param currentEpoch 현재 기준 시각
+     * @return 현재 기준 시각으로 환산한 점수
+     */
+    public double rescale(double score, LocalDateTime scoreEpoch, LocalDateTime currentEpoch) {
+        long elapsedSeconds = Duration.between(scoreEpoch, currentEpoch).getSeconds();
+        return score * Math.exp(-elapsedSeconds / timeScaleSeconds);
+    }
+
+    private TrendingEpoch lockEpoch() {
+        return trendingEpochRepository.findByIdForUpdate(TrendingEpoch.SINGLETON_ID)
+                .orElseThrow(() -> new EntityNotFoundException("트렌딩 기준 시각을 찾을 수 없습니다."));
+    }
+
+    public double getViewWeight() {
+        return viewWeight;
+    }
+
+    public double getTimeScaleSeconds() {
+        return timeScaleSeconds;
+    }
+}
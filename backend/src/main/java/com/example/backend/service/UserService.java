@@ -1,5 +1,6 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.IssuedTokens;
 import com.example.backend.dto.LoginResponseDTO;
 import com.example.backend.dto.LoginResultWrapper;
 import com.example.backend.entity.Role;
@@ -7,40 +8,47 @@ import com.example.backend.entity.User;
 import com.example.backend.exception.RefreshTokenExpiredException;
 import com.example.backend.exception.UserWithdrawnException;
 import com.example.backend.repository.UserRepository;
-import com.example.backend.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 //@Transactional(readOnly = true)
 public class UserService implements UserDetailsService {
 
     private final UserWithdrawalService userWithdrawalService;
-    @Value("${jwt.refresh-token-validity-in-seconds}")
-    private long refreshTokenValidityInSeconds;
 
     // ⭐️ 더미 유저의 고유 이메일 상수를 정의합니다.
     public static final String WITHDRAWN_USER_EMAIL = "system-withdrawn@dummy.com";
 
+    // Google 로그인 사용자의 sns_provider 값
+    private static final String GOOGLE_PROVIDER = "google";
+
+    // 로그인 트랜잭션 최대 시도 횟수 (교착 상태로 롤백된 경우 재시도)
+    private static final int MAX_LOGIN_ATTEMPTS = 3;
+
     private final AuthService authService;
+    private final RefreshSessionService refreshSessionService;
     private final PostService postService;
     private final CommentService commentService;
     private final UserWithdrawalService withdrawalService;
 
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
 
     // ⭐️ 초기화 메서드 추가
     @Transactional
@@ -67,58 +75,71 @@ public class UserService implements UserDetailsService {
 
     /**
      * 구글 로그인 처리를 담당합니다.
-     * 이메일과 이름을 받아 사용자를 생성하거나 조회한 후, JWT를 발급합니다.
+     * (sns_provider, sns_id)로 사용자를 조회하거나 생성한 후, 로그인 세션을 만들고 JWT를 발급합니다.
+     * 사용자 생성과 세션 저장은 하나의 트랜잭션에서 처리합니다.
      *
      * @param email Google로부터 받은 사용자의 이메일
      * @param name  Google로부터 받은 사용자의 이름
      * @param snsId Google로부터 받은 사용자의 고유 ID (sns_id로 저장)
+     * @param deviceLabel 로그인한 기기 표시용 문자열 (User-Agent)
      * @return 액세스 토큰, 리프레시 토큰 및 사용자 정보가 담긴 DTO
      */
-    @Transactional
-    public LoginResultWrapper processGoogleLogin(String email, String name, String snsId) {
+    public LoginResultWrapper processGoogleLogin(String email, String name, String snsId, String deviceLabel) {
 
         System.out.println("UserService - processGoogleLogin 진입");
-        
-        // 1. 이메일로 기존 사용자가 있는지 조회합니다. 없으면 새로 생성합니다.
-        User user = userRepository.findByEmail(email).orElse(null);
 
-        if (user != null) {
-            if (user.getDeletedAt() != null) {
-                // 삭제된 사용자
-                System.out.println("UserService: 탈퇴된 회원 재로그인 시도 차단 - Email: " + email);
-
-                // 🚨 Custom Exception을 던져서 프론트에 적절한 메시지를 전달합니다.
-                throw new UserWithdrawnException("탈퇴 처리된 회원입니다. 재로그인이 불가능합니다.");
+        // 같은 사용자의 최초 로그인이 동시에 들어오면 uk_sns 중복 키 대기 중 교착 상태로 한쪽이 롤백될 수 있으므로, 트랜잭션 전체를 다시 시도합니다.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> loginGoogleUser(email, name, snsId, deviceLabel));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LOGIN_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("로그인 트랜잭션 재시도 ({}회 실패) - snsId: {}", attempt, snsId);
             }
+        }
+    }
+
+    private LoginResultWrapper loginGoogleUser(String email, String name, String snsId, String deviceLabel) {
+
+        // 1. (sns_provider, sns_id) 고유 인덱스로 기존 사용자를 조회합니다.
+        User user = userRepository.findBySnsProviderAndSnsId(GOOGLE_PROVIDER, snsId).orElse(null);
+
+        if (user != null) {
             System.out.println("UserService: 기존 사용자 재로그인 - Email: " + email);
         } else {
-            // 최초 로그인
+            // 최초 로그인: 조회와 저장 사이에 다른 요청이 먼저 생성했더라도 uk_sns 제약으로 한 행만 남습니다.
             System.out.println("UserService: 최초 로그인 - Email: " + email);
-            User newUser = User.createSocialUser(email, name, "google", snsId, Role.ROLE_USER);
-            user = userRepository.save(newUser);
+            LocalDateTime now = LocalDateTime.now();
+            userRepository.upsertSocialUser(email, name, GOOGLE_PROVIDER, snsId, Role.ROLE_USER.name(), now);
+
+            // 다른 트랜잭션이 만든 행일 수 있으므로 스냅샷이 아닌 최신 커밋 값을 읽습니다. (잠금 읽기)
+            // 스냅샷에는 없던 기존 행(그 사이 탈퇴 처리된 행 포함)일 수 있으므로 아래에서 탈퇴 여부를 함께 확인합니다.
+            user = userRepository.findBySnsForShare(GOOGLE_PROVIDER, snsId)
+                    .orElseThrow(() -> new IllegalStateException("소셜 사용자 생성 후 조회에 실패했습니다. snsId: " + snsId));
         }
 
-        // 2. JWT 토큰을 생성합니다.
+        if (user.getDeletedAt() != null) {
+            // 삭제된 사용자
+            System.out.println("UserService: 탈퇴된 회원 재로그인 시도 차단 - Email: " + email);
+
+            // 🚨 Custom Exception을 던져서 프론트에 적절한 메시지를 전달합니다.
+            throw new UserWithdrawnException("탈퇴 처리된 회원입니다. 재로그인이 불가능합니다.");
+        }
+
+        // 2. 이 기기의 로그인 세션을 만들고 JWT 토큰을 발급합니다.
         // JWT의 주체(subject)는 보안을 위해 사용자 ID를 사용합니다.
-        String accessToken = jwtUtil.generateAccessToken(user);
-        String refreshToken = jwtUtil.generateRefreshToken(user);
-
-        // 3. 리프레시 토큰을 DB에 저장합니다.
-        // 이는 토큰 재발급 시 사용자의 유효성을 확인하는 데 필요합니다.
-        // ⭐️ 개선: setter 대신 엔티티 비즈니스 메서드 사용
-        user.updateRefreshToken(
-                refreshToken,
-                LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds)
-        );
-        userRepository.save(user);
+        // 리프레시 토큰은 해시로 세션 테이블에 저장되며, 토큰 재발급 시 사용자의 유효성을 확인하는 데 사용됩니다.
+        IssuedTokens tokens = refreshSessionService.createSession(user, deviceLabel);
 
-        LoginResponseDTO loginResponseDTO = new LoginResponseDTO(accessToken, user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+        LoginResponseDTO loginResponseDTO = new LoginResponseDTO(tokens.getAccessToken(), user.getId(), user.getEmail(), user.getName(), user.getRole().name());
 
-        // 4. 토큰과 프로필 정보를 DTO에 담아서 반환합니다.
+        // 3. 토큰과 프로필 정보를 DTO에 담아서 반환합니다.
         // 이 DTO는 AuthController에서 사용됩니다.
 
         // 쿠키를 통해 컨트롤러에서 브라우저에 전달
-        return new LoginResultWrapper(loginResponseDTO, refreshToken);
+        return new LoginResultWrapper(loginResponseDTO, tokens.getRefreshToken());
     }
 
     @Transactional(readOnly = true)
@@ -1,5 +1,6 @@
 package com.example.backend.service;
 
+import com.example.backend.cache.AccessTokenRevocationRegistry;
 import com.example.backend.entity.Role;
 import com.example.backend.entity.User;
 import com.example.backend.repository.UserRepository;
@@ -15,6 +16,8 @@ public class UserWithdrawalService {
     private final UserRepository userRepository;
     private final PostService postService;
     private final CommentService commentService;
+    private final AccessTokenRevocationRegistry accessTokenRevocationRegistry;
+    private final RefreshSessionService refreshSessionService;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void executeWithdrawal(Long currentUserId) {
@@ -40,6 +43,12 @@ public class UserWithdrawalService {
 
             System.out.println("UserWithdrawalService - markAsDeleted 완료");
 
+            // 탈퇴한 사용자의 남은 Access Token을 모두 거부합니다. (인증 필터는 사용자를 DB에서 조회하지 않음)
+            accessTokenRevocationRegistry.revokeAll(currentUserId);
+
+            // 다른 기기의 로그인 세션도 모두 삭제합니다.
+            refreshSessionService.deleteAllSessions(currentUserId);
+
             // 5. 연관 데이터 (게시글/댓글) 익명화
             Long dummyUserId = this.getWithdrawnUser().getId();
 
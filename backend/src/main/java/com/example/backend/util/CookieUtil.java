@@ -24,16 +24,26 @@ public class CookieUtil {
     public void addJwtCookie(HttpServletResponse response, String name, String value, long maxAgeSeconds) {
         
         System.out.println("CookieUtil - addJwtCookie 진입");
-        
-        ResponseCookie cookie = ResponseCookie.from(name, value)
+
+        response.addHeader("Set-Cookie", createJwtCookie(name, value, maxAgeSeconds).toString());
+    }
+
+    /**
+     * JWT 토큰을 담은 HttpOnly 쿠키를 만듭니다. (ResponseEntity 헤더로 직접 내려줄 때 사용)
+     *
+     * @param name          쿠키 이름 (e.g., "refreshToken")
+     * @param value         쿠키 값 (JWT)
+     * @param maxAgeSeconds 쿠키 유효 기간 (초 단위)
+     * @return Set-Cookie 헤더로 내려줄 쿠키
+     */
+    public ResponseCookie createJwtCookie(String name, String value, long maxAgeSeconds) {
+        return ResponseCookie.from(name, value)
                 .httpOnly(true)
                 .secure(secure)
                 .path("/")
                 .maxAge(maxAgeSeconds)
                 .sameSite("Lax") // CSRF 방지를 위해 "Strict" 또는 "Lax"를 사용합니다.
                 .build();
-
-        response.addHeader("Set-Cookie", cookie.toString());
     }
 
     /**
@@ -0,0 +1,55 @@
+package com.example.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반(Keyset) 페이지네이션에서 사용하는 불투명(opaque) 커서를 인코딩/디코딩하는 유틸리티입니다.
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 URL-safe Base64로 인코딩하므로, 클라이언트는 커서의 내부 구조를 알 필요가 없습니다.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 정렬 키 값들을 하나의 커서 문자열로 인코딩합니다.
+     * @param keys 커서를 구성할 정렬 키 값들 (예: createdAt, id)
+     * @return URL-safe Base64 커서 문자열
+     */
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값 배열로 디코딩합니다.
+     * @param cursor 클라이언트가 전달한 커서
+     * @param expectedKeys 커서에 포함되어야 하는 키 개수
+     * @return 디코딩된 키 문자열 배열
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우 (GlobalExceptionHandler에서 400 처리)
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\" + DELIMITER, -1);
+
+            if (keys.length != expectedKeys) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패도 IllegalArgumentException이므로 메시지를 통일합니다.
+            throw new IllegalArgumentException("잘못된 커서 값입니다.");
+        }
+    }
+}
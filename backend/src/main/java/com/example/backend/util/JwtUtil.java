@@ -3,6 +3,7 @@ package com.example.backend.util;
 import com.example.backend.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,11 +13,23 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
+    // 로그인 세션(RefreshSession.familyId)을 담는 클레임 이름
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    // 토큰 종류(access/refresh)를 담는 클레임 이름 (Refresh Token을 Bearer Access Token으로 쓰지 못하도록 구분)
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey secretKey;
+
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용합니다. (JwtParser는 불변이며 스레드 안전)
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInSeconds;
     private final long refreshTokenValidityInSeconds;
 
@@ -27,45 +40,54 @@ public class JwtUtil {
     ) {
         // 시크릿 키는 UTF-8 바이트 배열을 기반으로 HMAC SHA 키로 안전하게 변환됩니다.
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
         this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
     }
 
-    private String createToken (Long id, String role, long validityInSeconds) {
+    private String createToken (Long id, String role, String sessionId, String tokenType, long validityInSeconds) {
         Claims claims = Jwts.claims().setSubject(String.valueOf(id));
 
         claims.put("role", role);
+        claims.put(SESSION_ID_CLAIM, sessionId);
+        claims.put(TOKEN_TYPE_CLAIM, tokenType);
 
         long nowMillis = System.currentTimeMillis();
 
         return Jwts.builder()
                 .setClaims(claims)
+                // 같은 초에 발급된 토큰도 서로 달라야 세션 테이블의 해시 키가 겹치지 않습니다.
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(nowMillis))
                 .setExpiration(new Date(nowMillis + validityInSeconds * 1000))
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String generateAccessToken(User user) {
+    public String generateAccessToken(User user, String sessionId) {
         System.out.println("JwtUtil - generateAccessToken 메소드 진입");
         System.out.println("accessTokenValidity: " + accessTokenValidityInSeconds);
 
-        return createToken(user.getId(), user.getRole().name(), accessTokenValidityInSeconds);
+        return createToken(user.getId(), user.getRole().name(), sessionId, ACCESS_TOKEN_TYPE, accessTokenValidityInSeconds);
     }
 
-    public String generateRefreshToken(User user) {
+    public String generateRefreshToken(User user, String sessionId) {
         System.out.println("JwtUtil - generateRefreshToken 메소드 진입");
         System.out.println("refreshTokenValidity: " + refreshTokenValidityInSeconds);
 
-        return createToken(user.getId(), user.getRole().name(), refreshTokenValidityInSeconds);
+        return createToken(user.getId(), user.getRole().name(), sessionId, REFRESH_TOKEN_TYPE, refreshTokenValidityInSeconds);
+    }
+
+    public long getRefreshTokenValidityInSeconds() {
+        return refreshTokenValidityInSeconds;
     }
 
     public Claims parseClaims(String token) {
         System.out.println("JwtUtil - parseClaims 메소드 진입");
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -0,0 +1,33 @@
+package com.example.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장/비교에 사용할 고정 길이 해시를 만듭니다.
+ */
+public final class TokenHashUtil {
+
+    // SHA-256 해시의 16진수 문자열 길이
+    public static final int HASH_LENGTH = 64;
+
+    private TokenHashUtil() {
+    }
+
+    /**
+     * SHA-256(token)을 16진수 소문자 64자로 만듭니다. (MessageDigest는 스레드 안전하지 않으므로 매번 생성)
+     * @param token 토큰 원문
+     * @return 64자 해시 문자열
+     */
+    public static String sha256Hex(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않습니다.
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
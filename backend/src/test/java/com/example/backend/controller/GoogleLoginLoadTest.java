@@ -0,0 +1,222 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.GoogleJwksCache;
+import com.example.backend.config.GoogleOAuthClientConfig;
+import com.example.backend.dto.LoginResponseDTO;
+import com.example.backend.dto.LoginResultWrapper;
+import com.example.backend.service.AuthService;
+import com.example.backend.service.GoogleIdTokenVerifier;
+import com.example.backend.service.OAuthService;
+import com.example.backend.service.UserService;
+import com.example.backend.util.CookieUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 응답마다 지연되는 로컬 Google 스텁 서버를 상대로 POST /auth/google/login을 동시에 보내,
+// Google 응답을 기다리는 동안 요청 스레드가 반환되는지 검증합니다. (DB/스프링 컨텍스트 없이 컨트롤러 ~ WebClient만 실제로 구성)
+// 스텁 토큰 엔드포인트는 테스트용 RSA 키로 서명한 id_token을 돌려주고, 공개 키는 스텁 JWKS 엔드포인트로 제공합니다.
+class GoogleLoginLoadTest {
+
+    private static final long UPSTREAM_LATENCY_MILLIS = 500;
+    private static final int LOGIN_COUNT = 200;
+    // Tomcat 요청 스레드 풀 대신 쓰는 요청 스레드 수 (로그인 수보다 훨씬 적게)
+    private static final int REQUEST_THREADS = 4;
+    private static final String CLIENT_ID = "load-test-client";
+    private static final String KEY_ID = "load-test-key";
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private ConnectionProvider connectionProvider;
+    private KeyPair signingKeyPair;
+
+    private final AtomicInteger jwksRequestCount = new AtomicInteger();
+    // 스텁 토큰 엔드포인트에서 동시에 응답을 기다리고 있는 요청 수와 그 최댓값
+    private final AtomicInteger inFlightTokenRequests = new AtomicInteger();
+    private final AtomicInteger peakInFlightTokenRequests = new AtomicInteger();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        startStubServer();
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+
+        // 운영과 같은 설정(연결 풀, 타임아웃)의 Google 전용 WebClient
+        GoogleOAuthClientConfig clientConfig = new GoogleOAuthClientConfig();
+        connectionProvider = clientConfig.googleConnectionProvider(LOGIN_COUNT, 2000, 30000);
+        WebClient webClient = clientConfig.googleWebClient(WebClient.builder(), connectionProvider, 2000, 5000);
+
+        GoogleJwksCache jwksCache = new GoogleJwksCache(webClient, baseUrl + "/jwks", 60000, 0, 100);
+        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier(jwksCache, new ObjectMapper(), CLIENT_ID, "https://accounts.google.com", 60);
+
+        // DB 작업은 검증 대상이 아니므로 대체합니다.
+        UserService userService = mock(UserService.class);
+        given(userService.processGoogleLogin(anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> new LoginResultWrapper(
+                        new LoginResponseDTO("access-token", 1L, invocation.getArgument(0), invocation.getArgument(1), "ROLE_USER"),
+                        "refresh-token"));
+
+        OAuthService oAuthService = new OAuthService(userService, verifier, webClient, baseUrl + "/token", 0, 100);
+        ReflectionTestUtils.setField(oAuthService, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(oAuthService, "clientSecret", "load-test-secret");
+        ReflectionTestUtils.setField(oAuthService, "redirectUri", "http://localhost/callback");
+
+        AuthController authController = new AuthController(oAuthService, userService, new CookieUtil(), mock(AuthService.class));
+        ReflectionTestUtils.setField(authController, "refreshTokenValidityInSeconds", 3600L);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void requestThreadsAreReleasedWhileWaitingOnGoogle() throws Exception {
+
+        // 1. 적은 수의 요청 스레드로 로그인 요청을 모두 보냅니다. 각 요청은 비동기 처리로 시작만 하고 스레드를 반환해야 합니다.
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Future<MvcResult>> futures = new ArrayList<>();
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            String body = "{\"code\":\"code-" + i + "\"}";
+            futures.add(requestThreads.submit(() -> mockMvc.perform(post("/auth/google/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(request().asyncStarted())
+                    .andReturn()));
+        }
+
+        List<MvcResult> startedRequests = new ArrayList<>();
+        for (Future<MvcResult> future : futures) {
+            startedRequests.add(future.get());
+        }
+        requestThreads.shutdown();
+
+        // 2. 비동기 결과를 받아 응답을 확인합니다.
+        for (MvcResult started : startedRequests) {
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.email").value("stub@test.com"));
+        }
+
+        // 요청 스레드가 Google 응답을 기다리며 붙잡혀 있었다면 동시에 진행 중인 토큰 교환은 요청 스레드 수를 넘을 수 없습니다.
+        assertThat(peakInFlightTokenRequests.get()).isGreaterThan(REQUEST_THREADS);
+        // 공개 키는 캐시되므로 로그인마다 JWKS를 받지 않습니다. (첫 갱신이 끝나는 순간과 겹친 요청의 재갱신까지)
+        assertThat(jwksRequestCount.get()).isLessThanOrEqualTo(2);
+    }
+
+    private void startStubServer() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), LOGIN_COUNT);
+        // 지연 중인 요청이 스텁 쪽에서 줄을 서지 않도록 요청마다 스레드를 씁니다.
+        stubExecutor = Executors.newCachedThreadPool();
+        stubServer.setExecutor(stubExecutor);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKeyPair = generator.generateKeyPair();
+
+        stubServer.createContext("/token", exchange -> {
+            int inFlight = inFlightTokenRequests.incrementAndGet();
+            peakInFlightTokenRequests.accumulateAndGet(inFlight, Math::max);
+            try {
+                respond(exchange, "{\"access_token\":\"stub-access-token\",\"id_token\":\"" + createIdToken()
+                        + "\",\"token_type\":\"Bearer\",\"expires_in\":3599}");
+            } finally {
+                inFlightTokenRequests.decrementAndGet();
+            }
+        });
+        stubServer.createContext("/jwks", exchange -> {
+            jwksRequestCount.incrementAndGet();
+            RSAPublicKey publicKey = (RSAPublicKey) signingKeyPair.getPublic();
+            respond(exchange, "{\"keys\":[{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + KEY_ID
+                    + "\",\"n\":\"" + base64Url(publicKey.getModulus()) + "\",\"e\":\"" + base64Url(publicKey.getPublicExponent()) + "\"}]}");
+        });
+        stubServer.start();
+    }
+
+    private String createIdToken() {
+        long nowMillis = System.currentTimeMillis();
+        return Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setIssuer("https://accounts.google.com")
+                .setAudience(CLIENT_ID)
+                .setSubject("stub-sns-id")
+                .claim("email", "stub@test.com")
+                .claim("email_verified", true)
+                .claim("name", "stub")
+                .setIssuedAt(new Date(nowMillis))
+                .setExpiration(new Date(nowMillis + 3600_000))
+                .signWith(signingKeyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    // JWK의 n, e는 부호 없는 big-endian 바이트의 Base64URL (패딩 없음)
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
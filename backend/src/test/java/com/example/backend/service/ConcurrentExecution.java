@@ -0,0 +1,55 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 동시성 테스트 공용: 작업을 모두 제출한 뒤 한꺼번에 출발시키고, 제출 순서대로 결과를 모읍니다.
+final class ConcurrentExecution {
+
+    // 작업 하나가 끝나기를 기다리는 최대 시간 (교착 상태 등으로 멈추면 테스트가 끝없이 기다리지 않도록)
+    private static final long TASK_TIMEOUT_SECONDS = 60;
+
+    private ConcurrentExecution() {
+    }
+
+    @FunctionalInterface
+    interface Task<T> {
+        T call(int index) throws Exception;
+    }
+
+    /**
+     * @param threadCount 작업을 실행할 스레드 수
+     * @param taskCount 실행할 작업 수
+     * @param task 작업 (인자는 0부터 시작하는 작업 번호)
+     * @return 작업 번호 순서의 결과 (작업에서 예외가 나면 ExecutionException)
+     */
+    static <T> List<T> run(int threadCount, int taskCount, Task<T> task) throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < taskCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call(index);
+                }));
+            }
+
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
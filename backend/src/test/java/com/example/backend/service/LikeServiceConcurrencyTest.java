@@ -0,0 +1,107 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Post;
+import com.example.backend.entity.User;
+import com.example.backend.repository.LikeRepository;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좋아요/취소를 동시에 대량으로 실행한 뒤 좋아요 수(LikeCounter 기준)와 likes 행 수가 일치하는지 검증합니다. (MySQL 필요)
+@SpringBootTest
+class LikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int TOGGLE_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LikeCounter likeCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+
+        User author = null;
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("like-test-" + i + "-" + suffix + "@test.com")
+                    .name("like-test-" + i)
+                    .snsProvider("test")
+                    .snsId("like-test-" + i + "-" + suffix)
+                    .build());
+            userIds.add(user.getId());
+            if (author == null) {
+                author = user;
+            }
+        }
+
+        Post post = postRepository.save(Post.builder()
+                .title("좋아요 동시성 테스트")
+                .content("좋아요 동시성 테스트")
+                .excerpt("좋아요 동시성 테스트")
+                .author(author)
+                .build());
+        postId = post.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // posts는 @SQLDelete로 소프트 삭제되므로 테스트 데이터는 SQL로 직접 지웁니다.
+        jdbcTemplate.update("DELETE FROM likes WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post_like_shards WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+        userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId));
+    }
+
+    @Test
+    void likeCountMatchesLikeRowsAfterConcurrentToggles() throws Exception {
+
+        ConcurrentExecution.run(THREAD_COUNT, TOGGLE_COUNT, index -> {
+            // 같은 사용자의 좋아요/취소가 겹치도록 적은 수의 사용자 중에서 무작위로 고릅니다.
+            Long userId = userIds.get(ThreadLocalRandom.current().nextInt(USER_COUNT));
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                likeService.addLike(postId, userId);
+            } else {
+                likeService.removeLike(postId, userId);
+            }
+            return null;
+        });
+
+        long likeRows = likeRepository.countByPost_id(postId);
+        Integer likeCount = likeCounter.getLikeCount(postId);
+
+        assertThat(likeCount).isEqualTo((int) likeRows);
+        assertThat(likeRows).isBetween(0L, (long) USER_COUNT);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Comment;
+import com.example.backend.entity.Post;
+import com.example.backend.entity.User;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 한 페이지를 읽을 때 실행되는 SQL 문 수가 게시글 수와 관계없이 고정되는지 검증합니다. (MySQL 필요)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostListQueryCountTest {
+
+    private static final int POST_COUNT = 10;
+    private static final int COMMENTS_PER_POST = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> postIds = new ArrayList<>();
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        User author = userRepository.save(User.builder()
+                .email("list-test-" + suffix + "@test.com")
+                .name("list-test")
+                .snsProvider("test")
+                .snsId("list-test-" + suffix)
+                .build());
+        authorId = author.getId();
+
+        // 게시글마다 댓글을 달아, 작성자/댓글을 지연 로딩한다면 게시글 수만큼 쿼리가 늘어나도록 합니다.
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("목록 쿼리 수 테스트 " + i)
+                    .content("목록 쿼리 수 테스트 " + i)
+                    .excerpt("목록 쿼리 수 테스트 " + i)
+                    .author(author)
+                    .build());
+            postIds.add(post.getId());
+            for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                commentRepository.save(Comment.builder()
+                        .content("댓글 " + j)
+                        .author(author)
+                        .post(post)
+                        .build());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // posts, comments는 @SQLDelete로 소프트 삭제되므로 테스트 데이터는 SQL로 직접 지웁니다.
+        postIds.forEach(postId -> {
+            jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", postId);
+            jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+        });
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+    }
+
+    @Test
+    void pageListRunsListAndCountStatementsOnly() {
+
+        Statistics statistics = startStatistics();
+
+        postService.getPosts(PageRequest.of(0, POST_COUNT, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // 목록 쿼리 1회 + COUNT 쿼리 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cursorListRunsSingleStatement() {
+
+        Statistics statistics = startStatistics();
+
+        postService.getPostsByCursor(null, POST_COUNT, "latest");
+
+        // 한 건 더 읽어 다음 페이지를 판단하므로 COUNT 쿼리도 없습니다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics startStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
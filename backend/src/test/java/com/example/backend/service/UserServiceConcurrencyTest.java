@@ -0,0 +1,91 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.LoginResultWrapper;
+import com.example.backend.exception.UserWithdrawnException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 Google 계정의 로그인을 동시에 실행했을 때 사용자 행 생성과 탈퇴 회원 차단이 지켜지는지 검증합니다. (MySQL 필요)
+@SpringBootTest
+class UserServiceConcurrencyTest {
+
+    // 모든 로그인이 실제로 겹치도록 로그인마다 스레드를 하나씩 씁니다.
+    private static final int LOGIN_COUNT = 20;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserWithdrawalService userWithdrawalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String snsId = "concurrent-login-" + UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_sessions WHERE user_id IN (SELECT id FROM users WHERE sns_provider = 'google' AND sns_id = ?)", snsId);
+        jdbcTemplate.update("DELETE FROM users WHERE sns_provider = 'google' AND sns_id = ?", snsId);
+    }
+
+    @Test
+    void concurrentFirstLoginsCreateExactlyOneUser() throws Exception {
+
+        List<LoginResultWrapper> results = ConcurrentExecution.run(LOGIN_COUNT, LOGIN_COUNT, index ->
+                userService.processGoogleLogin(snsId + "@test.com", "동시 로그인", snsId, "concurrency-test"));
+
+        Integer userRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE sns_provider = 'google' AND sns_id = ?", Integer.class, snsId);
+        Set<Long> userIds = results.stream()
+                .map(result -> result.getLoginResponseDTO().getId())
+                .collect(Collectors.toSet());
+        Integer sessionRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_sessions WHERE user_id = ?", Integer.class, userIds.iterator().next());
+
+        assertThat(userRows).isEqualTo(1);
+        assertThat(userIds).hasSize(1);
+        // 로그인마다 기기 세션이 하나씩 생깁니다.
+        assertThat(sessionRows).isEqualTo(LOGIN_COUNT);
+    }
+
+    @Test
+    void concurrentLoginsOfWithdrawnUserAreAllRejected() throws Exception {
+
+        // 실제 탈퇴 경로로 탈퇴 회원을 만듭니다. (한 번 로그인한 뒤 탈퇴)
+        Long userId = userService.processGoogleLogin(snsId + "@test.com", "탈퇴 회원", snsId, "concurrency-test")
+                .getLoginResponseDTO().getId();
+        userWithdrawalService.executeWithdrawal(userId);
+
+        // 탈퇴 회원의 로그인은 동시에 몇 번 들어와도 세션을 만들지 않고 거부되어야 합니다.
+        List<Throwable> failures = ConcurrentExecution.run(LOGIN_COUNT, LOGIN_COUNT, index -> {
+            try {
+                userService.processGoogleLogin(snsId + "@test.com", "탈퇴 회원", snsId, "concurrency-test");
+                return null;
+            } catch (UserWithdrawnException e) {
+                return e;
+            }
+        });
+
+        Integer userRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE sns_provider = 'google' AND sns_id = ?", Integer.class, snsId);
+        Integer sessionRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_sessions WHERE user_id IN (SELECT id FROM users WHERE sns_provider = 'google' AND sns_id = ?)",
+                Integer.class, snsId);
+
+        assertThat(failures).allSatisfy(failure -> assertThat(failure).isInstanceOf(UserWithdrawnException.class));
+        // 같은 Google 계정으로 새 회원이 만들어지지 않고, 탈퇴 시 지운 세션도 다시 생기지 않습니다.
+        assertThat(userRows).isEqualTo(1);
+        assertThat(sessionRows).isZero();
+    }
+}